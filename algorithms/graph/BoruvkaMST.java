@@ -0,0 +1,178 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of Borůvka's algorithm for finding a Minimum Spanning Tree, in parallel.
+ * 
+ * Borůvka works in rounds. In each round every component picks its cheapest edge to another
+ * component, all those edges join the tree, and the components they connect are merged.
+ * The number of components at least halves every round, so there are O(log V) rounds.
+ * 
+ * Finding the cheapest outgoing edges is the expensive part and is embarrassingly parallel:
+ * the edge array is split into chunks, and each edge offers itself to both of its endpoint
+ * components with a compare-and-set "minimum" on an AtomicIntegerArray. Edges are compared by
+ * (weight, index), a strict total order, so the result is exactly the tree Kruskal's algorithm
+ * builds with a stable sort, and no cycles can form from equal weights. Merging and relabeling
+ * run in parallel too, on a {@link ConcurrentUnionFind}.
+ * 
+ * Time Complexity: O(E log V) work, spread over the pool's threads
+ * Space Complexity: O(V + E)
+ */
+public class BoruvkaMST {
+    
+    /**
+     * Finds a minimum spanning tree (a forest if the graph is disconnected) using the common pool.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param destinations the destination vertex of each edge
+     * @param weights the weight of each edge
+     * @return the MST edges, ordered like Kruskal's output (by weight, then by index)
+     */
+    public static List<KruskalMST.Edge> findMST(int numVertices, int[] sources, int[] destinations, int[] weights) {
+        return findMST(numVertices, sources, destinations, weights, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Finds a minimum spanning tree (a forest if the graph is disconnected) on the given pool.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param destinations the destination vertex of each edge
+     * @param weights the weight of each edge
+     * @param pool the pool to search for cheapest edges on
+     * @return the MST edges, ordered like Kruskal's output (by weight, then by index)
+     */
+    public static List<KruskalMST.Edge> findMST(int numVertices, int[] sources, int[] destinations, int[] weights,
+                                                ForkJoinPool pool) {
+        // component[v] is the representative of v's component at the start of a round
+        int[] component = new int[numVertices];
+        for (int v = 0; v < numVertices; v++) {
+            component[v] = v;
+        }
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(numVertices);
+        AtomicIntegerArray cheapest = new AtomicIntegerArray(numVertices);
+        
+        int[] treeEdges = new int[Math.max(0, numVertices - 1)]; // a forest has at most V - 1 edges
+        int treeEdgeCount = 0;
+        int[] alive = IntStream.range(0, sources.length).toArray(); // edges that may still join two components
+        
+        while (alive.length > 0) {
+            for (int v = 0; v < numVertices; v++) {
+                cheapest.set(v, -1);
+            }
+            
+            // Parallel phase: each edge offers itself to the components at both ends
+            int[] edges = alive;
+            pool.submit(() -> IntStream.of(edges).parallel().forEach(e -> {
+                int cu = component[sources[e]];
+                int cv = component[destinations[e]];
+                if (cu != cv) {
+                    offer(cheapest, cu, e, weights);
+                    offer(cheapest, cv, e, weights);
+                }
+            })).join();
+            
+            // Merge along every component's cheapest edge; union succeeds only once for an edge
+            // chosen by both of its components
+            int[] merged = pool.submit(() -> IntStream.range(0, numVertices).parallel()
+                    .map(cheapest::get)
+                    .filter(e -> e != -1 && uf.union(sources[e], destinations[e]))
+                    .toArray()).join();
+            if (merged.length == 0) {
+                break;
+            }
+            for (int e : merged) {
+                treeEdges[treeEdgeCount++] = e;
+            }
+            
+            // Relabel vertices, then drop edges that now lie inside one component
+            pool.submit(() -> IntStream.range(0, numVertices).parallel()
+                    .forEach(v -> component[v] = uf.find(v))).join();
+            alive = pool.submit(() -> IntStream.of(edges).parallel()
+                    .filter(e -> component[sources[e]] != component[destinations[e]])
+                    .toArray()).join();
+        }
+        
+        // Order like Kruskal: by weight, ties by index, as (weight, index) pairs packed into longs
+        long[] keyed = new long[treeEdgeCount];
+        for (int i = 0; i < treeEdgeCount; i++) {
+            keyed[i] = ((long) weights[treeEdges[i]] << 32) | treeEdges[i];
+        }
+        Arrays.sort(keyed);
+        List<KruskalMST.Edge> mst = new ArrayList<>(treeEdgeCount);
+        for (long key : keyed) {
+            int e = (int) key;
+            mst.add(new KruskalMST.Edge(sources[e], destinations[e], weights[e]));
+        }
+        return mst;
+    }
+    
+    /**
+     * Lowers cheapest[component] to edge e if e is lighter, by (weight, index), than the current one.
+     */
+    private static void offer(AtomicIntegerArray cheapest, int component, int e, int[] weights) {
+        while (true) {
+            int current = cheapest.get(component);
+            if (current != -1 && (weights[current] < weights[e] || (weights[current] == weights[e] && current < e))) {
+                return;
+            }
+            if (cheapest.compareAndSet(component, current, e)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Example usage of Borůvka's algorithm, compared with Kruskal's
+     */
+    public static void main(String[] args) {
+        // Same graph as the larger KruskalMST example
+        KruskalMST graph = new KruskalMST(9);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(0, 7, 8);
+        graph.addEdge(1, 2, 8);
+        graph.addEdge(1, 7, 11);
+        graph.addEdge(2, 3, 7);
+        graph.addEdge(2, 8, 2);
+        graph.addEdge(2, 5, 4);
+        graph.addEdge(3, 4, 9);
+        graph.addEdge(3, 5, 14);
+        graph.addEdge(4, 5, 10);
+        graph.addEdge(5, 6, 2);
+        graph.addEdge(6, 7, 1);
+        graph.addEdge(6, 8, 6);
+        graph.addEdge(7, 8, 7);
+        
+        List<KruskalMST.Edge> mst = graph.boruvkaMST();
+        System.out.println("Boruvka MST edges:");
+        for (KruskalMST.Edge edge : mst) {
+            System.out.println(edge);
+        }
+        System.out.println("Total MST weight: " + graph.getTotalWeight(mst));
+        
+        // Large random graph: compare with Kruskal
+        int n = 1_000_000;
+        int m = 5_000_000;
+        KruskalMST large = new KruskalMST(n);
+        Random random = new Random(21);
+        for (int i = 0; i < m; i++) {
+            large.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(1000));
+        }
+        
+        long startTime = System.currentTimeMillis();
+        List<KruskalMST.Edge> boruvka = large.boruvkaMST();
+        long endTime = System.currentTimeMillis();
+        System.out.println("\nBoruvka on " + m + " edges took " + (endTime - startTime) + "ms, weight "
+                + large.getTotalWeight(boruvka));
+        
+        startTime = System.currentTimeMillis();
+        List<KruskalMST.Edge> kruskal = large.kruskalMST();
+        endTime = System.currentTimeMillis();
+        System.out.println("Kruskal on " + m + " edges took " + (endTime - startTime) + "ms, weight "
+                + large.getTotalWeight(kruskal));
+        System.out.println("Same edges: " + boruvka.toString().equals(kruskal.toString()));
+    }
+}
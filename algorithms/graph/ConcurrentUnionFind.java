@@ -0,0 +1,194 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Lock-free disjoint-set (union-find) that many threads can use at the same time.
+ * 
+ * The parent array is an AtomicIntegerArray and every change is a single compare-and-set:
+ * - find walks to the root with path halving, pointing each visited vertex at its grandparent.
+ *   A failed CAS only means another thread already shortened the path, so it is not retried
+ * - union links the root with the smaller index under the one with the larger index. Linking
+ *   is a CAS on a slot that must still be a root, so if another thread links it first the union
+ *   simply starts over from the new roots. Always linking towards the larger index means no
+ *   cycles can form, whatever the interleaving
+ * 
+ * Time Complexity: O(log V) expected per operation for random vertex numbering, without locks
+ * Space Complexity: O(V)
+ */
+public class ConcurrentUnionFind {
+    
+    private final AtomicIntegerArray parent;
+    
+    /**
+     * Creates n singleton sets 0 .. n-1.
+     * 
+     * @param n the number of elements
+     */
+    public ConcurrentUnionFind(int n) {
+        parent = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            parent.set(i, i);
+        }
+    }
+    
+    /**
+     * Gets the number of elements.
+     * 
+     * @return the number of elements
+     */
+    public int size() {
+        return parent.length();
+    }
+    
+    /**
+     * Finds the current root of the set containing x, halving the path on the way.
+     * 
+     * @param x the element
+     * @return the root of x's set
+     */
+    public int find(int x) {
+        while (true) {
+            int p = parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int grandparent = parent.get(p);
+            if (p != grandparent) {
+                parent.compareAndSet(x, p, grandparent);
+            }
+            x = grandparent;
+        }
+    }
+    
+    /**
+     * Merges the sets containing x and y.
+     * 
+     * @param x the first element
+     * @param y the second element
+     * @return true if this call merged two different sets, false if they were already one set
+     */
+    public boolean union(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return false;
+            }
+            
+            // Union by index: the smaller root goes under the larger one
+            int child = Math.min(rootX, rootY);
+            int root = Math.max(rootX, rootY);
+            if (parent.compareAndSet(child, child, root)) {
+                return true;
+            }
+        }
+    }
+    
+    /**
+     * Checks whether x and y are in the same set. Under concurrent unions the answer is correct
+     * for some moment during the call.
+     * 
+     * @param x the first element
+     * @param y the second element
+     * @return true if x and y are in the same set
+     */
+    public boolean sameSet(int x, int y) {
+        while (true) {
+            int rootX = find(x);
+            int rootY = find(y);
+            if (rootX == rootY) {
+                return true;
+            }
+            // rootX still being a root means the two sets really were different
+            if (parent.get(rootX) == rootX) {
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Labels the connected components of an undirected graph using the common pool.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param destinations the destination vertex of each edge
+     * @return the root of each vertex's component, so two vertices share a label iff they are connected
+     */
+    public static int[] connectedComponents(int numVertices, int[] sources, int[] destinations) {
+        return connectedComponents(numVertices, sources, destinations, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Labels the connected components of an undirected graph, uniting the edges in parallel.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param destinations the destination vertex of each edge
+     * @param pool the pool to run on
+     * @return the root of each vertex's component, so two vertices share a label iff they are connected
+     */
+    public static int[] connectedComponents(int numVertices, int[] sources, int[] destinations, ForkJoinPool pool) {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(numVertices);
+        pool.submit(() -> IntStream.range(0, sources.length).parallel()
+                .forEach(e -> uf.union(sources[e], destinations[e]))).join();
+        return pool.submit(() -> IntStream.range(0, numVertices).parallel().map(uf::find).toArray()).join();
+    }
+    
+    /**
+     * Example usage of the concurrent union-find
+     */
+    public static void main(String[] args) {
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(6);
+        uf.union(0, 1);
+        uf.union(2, 3);
+        uf.union(1, 3);
+        System.out.println("0 and 2 connected: " + uf.sameSet(0, 2));
+        System.out.println("0 and 4 connected: " + uf.sameSet(0, 4));
+        
+        // Large random graph: compare with the sequential union-find
+        int n = 2_000_000;
+        int m = 1_500_000;
+        Random random = new Random(8);
+        int[] sources = new int[m];
+        int[] destinations = new int[m];
+        for (int i = 0; i < m; i++) {
+            sources[i] = random.nextInt(n);
+            destinations[i] = random.nextInt(n);
+        }
+        
+        long startTime = System.currentTimeMillis();
+        KruskalMST.UnionFind sequential = new KruskalMST.UnionFind(n);
+        for (int i = 0; i < m; i++) {
+            sequential.union(sources[i], destinations[i]);
+        }
+        int sequentialComponents = 0;
+        for (int v = 0; v < n; v++) {
+            if (sequential.find(v) == v) {
+                sequentialComponents++;
+            }
+        }
+        long endTime = System.currentTimeMillis();
+        System.out.println("\nSequential union-find: " + sequentialComponents + " components in "
+                + (endTime - startTime) + "ms");
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            startTime = System.currentTimeMillis();
+            int[] labels = connectedComponents(n, sources, destinations, pool);
+            endTime = System.currentTimeMillis();
+            
+            int components = 0;
+            for (int v = 0; v < n; v++) {
+                if (labels[v] == v) {
+                    components++;
+                }
+            }
+            System.out.println("Concurrent union-find with " + threads + " threads: " + components
+                    + " components in " + (endTime - startTime) + "ms");
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,673 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Implementation of Contraction Hierarchies (CH) for fast point-to-point shortest path queries.
+ * 
+ * Preprocessing contracts the vertices one by one in order of importance. Contracting a vertex v
+ * removes it from the remaining graph; for every pair of neighbors u -> v -> w whose shortest
+ * path runs through v, a shortcut u -> w is inserted so the remaining distances stay the same.
+ * A local "witness" search from u that avoids v decides whether the shortcut is needed.
+ * 
+ * A query then runs a bidirectional Dijkstra that only relaxes edges leading to more important
+ * (later contracted) vertices: forward from the source over upward edges and backward from the
+ * target over downward edges. Both searches stay tiny, and the shortcuts on the resulting path
+ * are unpacked back into original edges.
+ * 
+ * Time Complexity:
+ * - Preprocessing: depends on the graph; near-linear in practice on road networks
+ * - Query: typically a few hundred settled vertices, independent of the graph size
+ * 
+ * Space Complexity: O(V + E + S) where S is the number of shortcuts
+ */
+public class ContractionHierarchy {
+    
+    // Settled-vertex budget of a witness search; giving up early only adds a redundant shortcut
+    private static final int WITNESS_SETTLE_LIMIT = 500;
+    
+    // Header of the serialized format
+    private static final int FILE_MAGIC = 0x43484731; // "CHG1"
+    
+    private final int numVertices;
+    private final int[] rank; // position of each vertex in the contraction order
+    
+    // Upward edges u -> v with rank[u] < rank[v], stored at u
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final int[] upWeights;
+    private final int[] upMiddles; // contracted vertex a shortcut skips, or -1 for an original edge
+    
+    // Downward edges u -> v with rank[u] > rank[v], stored reversed at v with target u
+    private final int[] downOffsets;
+    private final int[] downTargets;
+    private final int[] downWeights;
+    private final int[] downMiddles;
+    
+    // Search graphs over the arrays above, used with DijkstraAlgorithm's workspaces
+    private final DijkstraAlgorithm.CsrGraph upGraph;
+    private final DijkstraAlgorithm.CsrGraph downGraph;
+    
+    private ContractionHierarchy(int numVertices, int[] rank,
+                                 int[] upOffsets, int[] upTargets, int[] upWeights, int[] upMiddles,
+                                 int[] downOffsets, int[] downTargets, int[] downWeights, int[] downMiddles) {
+        this.numVertices = numVertices;
+        this.rank = rank;
+        this.upOffsets = upOffsets;
+        this.upTargets = upTargets;
+        this.upWeights = upWeights;
+        this.upMiddles = upMiddles;
+        this.downOffsets = downOffsets;
+        this.downTargets = downTargets;
+        this.downWeights = downWeights;
+        this.downMiddles = downMiddles;
+        this.upGraph = DijkstraAlgorithm.CsrGraph.of(numVertices, upOffsets, upTargets, upWeights);
+        this.downGraph = DijkstraAlgorithm.CsrGraph.of(numVertices, downOffsets, downTargets, downWeights);
+    }
+    
+    /**
+     * Growable list of edges of one vertex in the remaining graph during preprocessing.
+     */
+    private static class EdgeList {
+        int size;
+        int[] vertices = new int[4];
+        int[] weights = new int[4];
+        int[] middles = new int[4];
+        
+        /**
+         * Adds an edge, or lowers the weight of an existing edge to the same vertex.
+         * @return true if the list changed
+         */
+        boolean addOrDecrease(int vertex, int weight, int middle) {
+            for (int i = 0; i < size; i++) {
+                if (vertices[i] == vertex) {
+                    if (weight >= weights[i]) {
+                        return false;
+                    }
+                    weights[i] = weight;
+                    middles[i] = middle;
+                    return true;
+                }
+            }
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+            vertices[size] = vertex;
+            weights[size] = weight;
+            middles[size] = middle;
+            size++;
+            return true;
+        }
+    }
+    
+    /**
+     * State of the preprocessing: the remaining graph plus witness search buffers.
+     */
+    private static class Contractor {
+        final int n;
+        final EdgeList[] out;
+        final EdgeList[] in;
+        final boolean[] contracted;
+        final int[] contractedNeighbors;
+        
+        // Witness search state, epoch-stamped so it is never cleared
+        final int[] witnessDistance;
+        final int[] witnessEpoch;
+        final DijkstraAlgorithm.IndexedMinHeap witnessHeap;
+        int epoch;
+        
+        Contractor(DijkstraAlgorithm.CsrGraph graph) {
+            n = graph.getNumVertices();
+            out = new EdgeList[n];
+            in = new EdgeList[n];
+            for (int i = 0; i < n; i++) {
+                out[i] = new EdgeList();
+                in[i] = new EdgeList();
+            }
+            for (int u = 0; u < n; u++) {
+                for (int e = graph.edgeStart(u); e < graph.edgeEnd(u); e++) {
+                    int v = graph.target(e);
+                    if (v != u) {
+                        out[u].addOrDecrease(v, graph.weight(e), -1);
+                        in[v].addOrDecrease(u, graph.weight(e), -1);
+                    }
+                }
+            }
+            contracted = new boolean[n];
+            contractedNeighbors = new int[n];
+            witnessDistance = new int[n];
+            witnessEpoch = new int[n];
+            witnessHeap = new DijkstraAlgorithm.IndexedMinHeap(n);
+        }
+        
+        /**
+         * Contracts a vertex, or only counts the shortcuts it would need.
+         * @return the number of shortcuts (added or needed)
+         */
+        int contract(int v, boolean simulate) {
+            int shortcuts = 0;
+            EdgeList incoming = in[v];
+            EdgeList outgoing = out[v];
+            
+            for (int i = 0; i < incoming.size; i++) {
+                int u = incoming.vertices[i];
+                if (contracted[u]) {
+                    continue;
+                }
+                
+                // Longest path through v that the witness search must beat
+                int limit = 0;
+                for (int j = 0; j < outgoing.size; j++) {
+                    if (!contracted[outgoing.vertices[j]]) {
+                        limit = Math.max(limit, incoming.weights[i] + outgoing.weights[j]);
+                    }
+                }
+                witnessSearch(u, v, limit);
+                
+                for (int j = 0; j < outgoing.size; j++) {
+                    int w = outgoing.vertices[j];
+                    if (contracted[w] || w == u) {
+                        continue;
+                    }
+                    int viaV = incoming.weights[i] + outgoing.weights[j];
+                    if (witnessEpoch[w] == epoch && witnessDistance[w] <= viaV) {
+                        continue; // a path avoiding v is at least as short
+                    }
+                    shortcuts++;
+                    if (!simulate) {
+                        out[u].addOrDecrease(w, viaV, v);
+                        in[w].addOrDecrease(u, viaV, v);
+                    }
+                }
+            }
+            
+            if (!simulate) {
+                contracted[v] = true;
+                for (int i = 0; i < incoming.size; i++) {
+                    contractedNeighbors[incoming.vertices[i]]++;
+                }
+                for (int j = 0; j < outgoing.size; j++) {
+                    contractedNeighbors[outgoing.vertices[j]]++;
+                }
+            }
+            return shortcuts;
+        }
+        
+        /**
+         * Bounded Dijkstra from a source in the remaining graph, skipping the vertex being contracted.
+         */
+        void witnessSearch(int source, int skip, int limit) {
+            epoch++;
+            witnessHeap.clear();
+            witnessDistance[source] = 0;
+            witnessEpoch[source] = epoch;
+            witnessHeap.insertOrDecrease(source, 0);
+            
+            int settled = 0;
+            while (!witnessHeap.isEmpty() && settled < WITNESS_SETTLE_LIMIT) {
+                if (witnessHeap.peekKey() > limit) {
+                    break;
+                }
+                int u = witnessHeap.poll();
+                settled++;
+                
+                EdgeList edges = out[u];
+                for (int i = 0; i < edges.size; i++) {
+                    int w = edges.vertices[i];
+                    if (w == skip || contracted[w]) {
+                        continue;
+                    }
+                    int distance = witnessDistance[u] + edges.weights[i];
+                    if (witnessEpoch[w] != epoch || distance < witnessDistance[w]) {
+                        witnessEpoch[w] = epoch;
+                        witnessDistance[w] = distance;
+                        witnessHeap.insertOrDecrease(w, distance);
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Importance of a vertex: edge difference plus the number of already contracted neighbors,
+         * which spreads the contraction evenly over the graph.
+         */
+        long priority(int v) {
+            int remainingEdges = 0;
+            for (int i = 0; i < in[v].size; i++) {
+                if (!contracted[in[v].vertices[i]]) {
+                    remainingEdges++;
+                }
+            }
+            for (int j = 0; j < out[v].size; j++) {
+                if (!contracted[out[v].vertices[j]]) {
+                    remainingEdges++;
+                }
+            }
+            return (long) contract(v, true) - remainingEdges + contractedNeighbors[v];
+        }
+    }
+    
+    /**
+     * Builds a contraction hierarchy for a graph.
+     * 
+     * @param graph the graph to preprocess
+     * @return the contraction hierarchy
+     */
+    public static ContractionHierarchy build(DijkstraAlgorithm.Graph graph) {
+        return build(graph.freeze());
+    }
+    
+    /**
+     * Builds a contraction hierarchy for a CSR graph.
+     * 
+     * @param graph the graph to preprocess
+     * @return the contraction hierarchy
+     */
+    public static ContractionHierarchy build(DijkstraAlgorithm.CsrGraph graph) {
+        Contractor contractor = new Contractor(graph);
+        int n = contractor.n;
+        
+        // Node ordering with lazy updates: a popped vertex whose priority got worse goes back
+        DijkstraAlgorithm.IndexedMinHeap queue = new DijkstraAlgorithm.IndexedMinHeap(n);
+        long[] priorities = new long[n];
+        for (int v = 0; v < n; v++) {
+            priorities[v] = contractor.priority(v);
+            queue.insertOrDecrease(v, priorities[v]);
+        }
+        
+        int[] rank = new int[n];
+        int nextRank = 0;
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            long priority = contractor.priority(v);
+            if (!queue.isEmpty() && priority > queue.peekKey()) {
+                queue.insertOrDecrease(v, priority);
+                continue;
+            }
+            contractor.contract(v, false);
+            rank[v] = nextRank++;
+        }
+        
+        // Split all original edges and shortcuts into upward and downward CSR arrays
+        int[] upOffsets = new int[n + 1];
+        int[] downOffsets = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            EdgeList edges = contractor.out[u];
+            for (int i = 0; i < edges.size; i++) {
+                if (rank[u] < rank[edges.vertices[i]]) {
+                    upOffsets[u + 1]++;
+                } else {
+                    downOffsets[edges.vertices[i] + 1]++;
+                }
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        
+        int[] upTargets = new int[upOffsets[n]];
+        int[] upWeights = new int[upOffsets[n]];
+        int[] upMiddles = new int[upOffsets[n]];
+        int[] downTargets = new int[downOffsets[n]];
+        int[] downWeights = new int[downOffsets[n]];
+        int[] downMiddles = new int[downOffsets[n]];
+        int[] upNext = Arrays.copyOf(upOffsets, n);
+        int[] downNext = Arrays.copyOf(downOffsets, n);
+        for (int u = 0; u < n; u++) {
+            EdgeList edges = contractor.out[u];
+            for (int i = 0; i < edges.size; i++) {
+                int v = edges.vertices[i];
+                if (rank[u] < rank[v]) {
+                    int slot = upNext[u]++;
+                    upTargets[slot] = v;
+                    upWeights[slot] = edges.weights[i];
+                    upMiddles[slot] = edges.middles[i];
+                } else {
+                    int slot = downNext[v]++;
+                    downTargets[slot] = u;
+                    downWeights[slot] = edges.weights[i];
+                    downMiddles[slot] = edges.middles[i];
+                }
+            }
+        }
+        
+        return new ContractionHierarchy(n, rank, upOffsets, upTargets, upWeights, upMiddles,
+                downOffsets, downTargets, downWeights, downMiddles);
+    }
+    
+    /**
+     * Gets the number of vertices in the graph.
+     * 
+     * @return the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+    
+    /**
+     * Gets the number of shortcut edges added by preprocessing.
+     * 
+     * @return the number of shortcuts
+     */
+    public int getNumShortcuts() {
+        int shortcuts = 0;
+        for (int middle : upMiddles) {
+            if (middle != -1) {
+                shortcuts++;
+            }
+        }
+        for (int middle : downMiddles) {
+            if (middle != -1) {
+                shortcuts++;
+            }
+        }
+        return shortcuts;
+    }
+    
+    /**
+     * Finds the shortest path between two vertices with fresh workspaces.
+     * 
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public List<Integer> findShortestPath(int source, int destination) {
+        return findShortestPath(source, destination,
+                new DijkstraAlgorithm.ShortestPathWorkspace(numVertices),
+                new DijkstraAlgorithm.ShortestPathWorkspace(numVertices));
+    }
+    
+    /**
+     * Finds the shortest path between two vertices with a bidirectional upward search,
+     * then unpacks the shortcuts on it into original edges.
+     * 
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param forward the workspace for the upward search from the source
+     * @param backward the workspace for the upward search from the destination
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public List<Integer> findShortestPath(int source, int destination,
+                                          DijkstraAlgorithm.ShortestPathWorkspace forward,
+                                          DijkstraAlgorithm.ShortestPathWorkspace backward) {
+        int meet = search(source, destination, forward, backward);
+        
+        List<Integer> path = new ArrayList<>();
+        if (meet == -1) {
+            return path;
+        }
+        
+        // Hierarchy path: source .. meet via forward predecessors, meet .. destination via backward ones
+        List<Integer> packed = new ArrayList<>();
+        for (int vertex = meet; vertex != -1; vertex = forward.getPrevious(vertex)) {
+            packed.add(vertex);
+        }
+        Collections.reverse(packed);
+        for (int vertex = backward.getPrevious(meet); vertex != -1; vertex = backward.getPrevious(vertex)) {
+            packed.add(vertex);
+        }
+        
+        path.add(packed.get(0));
+        for (int i = 0; i + 1 < packed.size(); i++) {
+            unpackEdge(packed.get(i), packed.get(i + 1), path);
+        }
+        return path;
+    }
+    
+    /**
+     * Finds the shortest distance between two vertices.
+     * 
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param forward the workspace for the upward search from the source
+     * @param backward the workspace for the upward search from the destination
+     * @return the distance, or Integer.MAX_VALUE if no path exists
+     */
+    public int findShortestDistance(int source, int destination,
+                                    DijkstraAlgorithm.ShortestPathWorkspace forward,
+                                    DijkstraAlgorithm.ShortestPathWorkspace backward) {
+        int meet = search(source, destination, forward, backward);
+        return meet == -1 ? Integer.MAX_VALUE : forward.getDistance(meet) + backward.getDistance(meet);
+    }
+    
+    /**
+     * Runs the forward and backward upward searches.
+     * A side stops once its queue minimum is no better than the best meeting distance found.
+     * 
+     * @return the meeting vertex of the shortest path, or -1 if no path exists
+     */
+    private int search(int source, int destination,
+                       DijkstraAlgorithm.ShortestPathWorkspace forward,
+                       DijkstraAlgorithm.ShortestPathWorkspace backward) {
+        // Validate vertices
+        if (source < 0 || source >= numVertices || destination < 0 || destination >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        
+        forward.reset(numVertices);
+        backward.reset(numVertices);
+        forward.relax(source, 0, -1);
+        backward.relax(destination, 0, -1);
+        DijkstraAlgorithm.IndexedMinHeap forwardHeap = forward.heap();
+        DijkstraAlgorithm.IndexedMinHeap backwardHeap = backward.heap();
+        
+        long best = Long.MAX_VALUE;
+        int meet = -1;
+        while (true) {
+            boolean forwardActive = !forwardHeap.isEmpty() && forwardHeap.peekKey() < best;
+            boolean backwardActive = !backwardHeap.isEmpty() && backwardHeap.peekKey() < best;
+            if (!forwardActive && !backwardActive) {
+                break;
+            }
+            
+            boolean forwardStep = forwardActive
+                    && (!backwardActive || forwardHeap.peekKey() <= backwardHeap.peekKey());
+            DijkstraAlgorithm.CsrGraph side = forwardStep ? upGraph : downGraph;
+            DijkstraAlgorithm.ShortestPathWorkspace self = forwardStep ? forward : backward;
+            DijkstraAlgorithm.ShortestPathWorkspace other = forwardStep ? backward : forward;
+            
+            int vertex = self.heap().poll();
+            self.settle(vertex);
+            int distance = self.getDistance(vertex);
+            
+            // Every vertex reached from both sides is a candidate meeting point
+            int otherDistance = other.getDistance(vertex);
+            if (otherDistance != Integer.MAX_VALUE && (long) distance + otherDistance < best) {
+                best = (long) distance + otherDistance;
+                meet = vertex;
+            }
+            
+            for (int e = side.edgeStart(vertex); e < side.edgeEnd(vertex); e++) {
+                self.relax(side.target(e), distance + side.weight(e), vertex);
+            }
+        }
+        return meet;
+    }
+    
+    /**
+     * Appends the original vertices of the hierarchy edge u -> v (excluding u) to a path.
+     * Shortcuts are expanded with an explicit stack, so deep hierarchies cannot overflow.
+     */
+    private void unpackEdge(int u, int v, List<Integer> path) {
+        Deque<int[]> stack = new ArrayDeque<>();
+        stack.push(new int[] {u, v});
+        while (!stack.isEmpty()) {
+            int[] edge = stack.pop();
+            int middle = findMiddle(edge[0], edge[1]);
+            if (middle == -1) {
+                path.add(edge[1]);
+            } else {
+                // Push the second half first so the first half is expanded first
+                stack.push(new int[] {middle, edge[1]});
+                stack.push(new int[] {edge[0], middle});
+            }
+        }
+    }
+    
+    /**
+     * Looks up the edge u -> v in the hierarchy and returns the vertex it skips, or -1 if original.
+     */
+    private int findMiddle(int u, int v) {
+        if (rank[u] < rank[v]) {
+            for (int e = upOffsets[u]; e < upOffsets[u + 1]; e++) {
+                if (upTargets[e] == v) {
+                    return upMiddles[e];
+                }
+            }
+        } else {
+            for (int e = downOffsets[v]; e < downOffsets[v + 1]; e++) {
+                if (downTargets[e] == u) {
+                    return downMiddles[e];
+                }
+            }
+        }
+        throw new IllegalStateException("Missing hierarchy edge " + u + " -> " + v);
+    }
+    
+    /**
+     * Writes the contracted graph to a file so preprocessing need not be repeated.
+     * 
+     * @param file the file to write
+     * @throws IOException if writing fails
+     */
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(numVertices);
+            writeArray(out, rank);
+            writeArray(out, upOffsets);
+            writeArray(out, upTargets);
+            writeArray(out, upWeights);
+            writeArray(out, upMiddles);
+            writeArray(out, downOffsets);
+            writeArray(out, downTargets);
+            writeArray(out, downWeights);
+            writeArray(out, downMiddles);
+        }
+    }
+    
+    /**
+     * Reads a contracted graph written by {@link #save(Path)}.
+     * 
+     * @param file the file to read
+     * @return the contraction hierarchy
+     * @throws IOException if reading fails or the file is not a contraction hierarchy
+     */
+    public static ContractionHierarchy load(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FILE_MAGIC) {
+                throw new IOException("Not a contraction hierarchy file: " + file);
+            }
+            int numVertices = in.readInt();
+            return new ContractionHierarchy(numVertices, readArray(in),
+                    readArray(in), readArray(in), readArray(in), readArray(in),
+                    readArray(in), readArray(in), readArray(in), readArray(in));
+        }
+    }
+    
+    private static void writeArray(DataOutputStream out, int[] array) throws IOException {
+        out.writeInt(array.length);
+        for (int value : array) {
+            out.writeInt(value);
+        }
+    }
+    
+    private static int[] readArray(DataInputStream in) throws IOException {
+        int[] array = new int[in.readInt()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = in.readInt();
+        }
+        return array;
+    }
+    
+    /**
+     * Example usage of Contraction Hierarchies
+     */
+    public static void main(String[] args) throws IOException {
+        // Small example: same graph as in DijkstraAlgorithm
+        DijkstraAlgorithm.Graph graph = new DijkstraAlgorithm.Graph(6, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 4);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 7);
+        graph.addEdge(2, 4, 3);
+        graph.addEdge(3, 5, 1);
+        graph.addEdge(4, 3, 2);
+        graph.addEdge(4, 5, 5);
+        
+        ContractionHierarchy ch = build(graph);
+        System.out.println("Shortest path from 0 to 5: " + ch.findShortestPath(0, 5));
+        System.out.println("Shortest path from 5 to 0: " + ch.findShortestPath(5, 0));
+        
+        // Road-like grid graph with random weights
+        int side = 150;
+        DijkstraAlgorithm.Graph grid = new DijkstraAlgorithm.Graph(side * side, false);
+        Random random = new Random(11);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                if (col + 1 < side) {
+                    grid.addEdge(vertex, vertex + 1, 1 + random.nextInt(100));
+                }
+                if (row + 1 < side) {
+                    grid.addEdge(vertex, vertex + side, 1 + random.nextInt(100));
+                }
+            }
+        }
+        DijkstraAlgorithm.CsrGraph gridCsr = grid.freeze();
+        
+        long startTime = System.currentTimeMillis();
+        ContractionHierarchy gridCh = build(gridCsr);
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("\nPreprocessed " + side * side + " vertices in " + (endTime - startTime)
+                + "ms, added " + gridCh.getNumShortcuts() + " shortcuts");
+        
+        // Save and reload so preprocessing is not repeated on startup
+        Path file = Files.createTempFile("grid", ".ch");
+        gridCh.save(file);
+        ContractionHierarchy loaded = load(file);
+        Files.delete(file);
+        
+        // Compare query times and answers against plain Dijkstra
+        int queries = 1000;
+        int[] sources = new int[queries];
+        int[] targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = random.nextInt(side * side);
+            targets[i] = random.nextInt(side * side);
+        }
+        
+        DijkstraAlgorithm.ShortestPathWorkspace forward = new DijkstraAlgorithm.ShortestPathWorkspace(side * side);
+        DijkstraAlgorithm.ShortestPathWorkspace backward = new DijkstraAlgorithm.ShortestPathWorkspace(side * side);
+        int[] expected = new int[queries];
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            DijkstraAlgorithm.findShortestPath(gridCsr, sources[i], targets[i], forward);
+            expected[i] = forward.getDistance(targets[i]);
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println(queries + " Dijkstra queries took " + (endTime - startTime) + "ms");
+        
+        boolean allEqual = true;
+        long settled = 0;
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            int distance = loaded.findShortestDistance(sources[i], targets[i], forward, backward);
+            settled += forward.getSettledCount() + backward.getSettledCount();
+            allEqual &= distance == expected[i];
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println(queries + " CH queries took " + (endTime - startTime) + "ms, settling "
+                + settled / queries + " vertices on average");
+        System.out.println("Distances equal: " + allEqual);
+        
+        List<Integer> path = loaded.findShortestPath(sources[0], targets[0]);
+        System.out.println("Unpacked path of the first query has " + path.size() + " vertices, starting at "
+                + path.get(0) + " and ending at " + path.get(path.size() - 1));
+    }
+}
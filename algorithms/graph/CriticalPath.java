@@ -0,0 +1,498 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Critical path analysis of a job DAG, plus longest and shortest paths with vertex weights.
+ * 
+ * Each vertex is a job with a duration, and an edge u -> v means v cannot start before u
+ * finishes. Two sweeps over a topological order give the whole schedule:
+ * 1. Forward: earliestStart[v] = max over predecessors u of earliestFinish[u] (0 for sources)
+ * 2. Backward: latestFinish[u] = min over successors v of latestStart[v] (the makespan for sinks)
+ * The slack of a job is latestStart - earliestStart. Jobs without slack form the critical path,
+ * the chain of jobs that determines the makespan.
+ * 
+ * The sequential version sweeps the order once in each direction over CSR arrays. The parallel
+ * version processes the levels of {@link TopologicalSort#topologicalLevels(ForkJoinPool)} one after
+ * another; within a level every job only reads values of earlier levels, so the jobs of a level are
+ * evaluated concurrently without atomics, and the result is the same.
+ * 
+ * Time Complexity: O(V + E)
+ * Space Complexity: O(V + E) for the CSR copies of the edges and the schedule arrays
+ */
+public class CriticalPath {
+    
+    private final long[] durations;
+    private final long[] earliestStart;
+    private final long[] latestStart;
+    private final long makespan;
+    private final int[] criticalPath;
+    
+    private CriticalPath(long[] durations, long[] earliestStart, long[] latestStart, long makespan,
+                         int[] criticalPath) {
+        this.durations = durations;
+        this.earliestStart = earliestStart;
+        this.latestStart = latestStart;
+        this.makespan = makespan;
+        this.criticalPath = criticalPath;
+    }
+    
+    /**
+     * Edges of a TopologicalSort copied into CSR arrays, forward and reversed.
+     */
+    private static final class Edges {
+        final int[] offsets, targets;               // successors
+        final int[] reverseOffsets, reverseTargets; // predecessors
+        
+        Edges(TopologicalSort graph) {
+            int n = graph.getNumVertices();
+            offsets = new int[n + 1];
+            reverseOffsets = new int[n + 1];
+            for (int u = 0; u < n; u++) {
+                offsets[u + 1] = offsets[u] + graph.getAdjacentVertices(u).size();
+                for (int v : graph.getAdjacentVertices(u)) {
+                    reverseOffsets[v + 1]++;
+                }
+            }
+            for (int v = 0; v < n; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+            
+            targets = new int[offsets[n]];
+            reverseTargets = new int[offsets[n]];
+            int[] fill = Arrays.copyOf(reverseOffsets, n);
+            for (int u = 0; u < n; u++) {
+                int position = offsets[u];
+                for (int v : graph.getAdjacentVertices(u)) {
+                    targets[position++] = v;
+                    reverseTargets[fill[v]++] = u;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Computes the schedule of a job DAG with a sequential sweep.
+     * 
+     * @param graph the job dependencies
+     * @param durations the duration of each job
+     * @return the schedule
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static CriticalPath analyze(TopologicalSort graph, long[] durations) {
+        validate(graph, durations);
+        int[] order = graph.topologicalSort();
+        if (order == null) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+        return sweep(durations, order, new Edges(graph));
+    }
+    
+    /**
+     * Computes the schedule of a job DAG, reusing a topological order the caller already has.
+     * The order is checked in O(V + E) before it is used.
+     * 
+     * @param graph the job dependencies
+     * @param durations the duration of each job
+     * @param order a topological order of the graph, e.g. from {@link TopologicalSort#topologicalSort()}
+     * @return the schedule
+     * @throws IllegalArgumentException if order is not a topological order of the graph
+     */
+    public static CriticalPath analyze(TopologicalSort graph, long[] durations, int[] order) {
+        validate(graph, durations);
+        Edges edges = new Edges(graph);
+        validateOrder(order, edges);
+        return sweep(durations, order, edges);
+    }
+    
+    private static CriticalPath sweep(long[] durations, int[] order, Edges edges) {
+        int n = order.length;
+        
+        // Forward sweep: push each job's finish time to its successors
+        long[] earliestStart = new long[n];
+        long makespan = 0;
+        for (int u : order) {
+            long finish = earliestStart[u] + durations[u];
+            makespan = Math.max(makespan, finish);
+            for (int e = edges.offsets[u]; e < edges.offsets[u + 1]; e++) {
+                int v = edges.targets[e];
+                earliestStart[v] = Math.max(earliestStart[v], finish);
+            }
+        }
+        
+        // Backward sweep: a job must finish before the latest start of every successor
+        long[] latestStart = new long[n];
+        for (int i = n - 1; i >= 0; i--) {
+            int u = order[i];
+            latestStart[u] = latestFinish(u, makespan, edges, latestStart) - durations[u];
+        }
+        
+        return new CriticalPath(durations, earliestStart, latestStart, makespan,
+                traceCriticalPath(order, edges, durations, earliestStart, latestStart));
+    }
+    
+    /**
+     * Computes the schedule of a job DAG, evaluating the jobs of each level in parallel.
+     * 
+     * @param graph the job dependencies
+     * @param durations the duration of each job
+     * @param pool the pool to evaluate levels on
+     * @return the schedule, identical to the sequential one
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static CriticalPath analyze(TopologicalSort graph, long[] durations, ForkJoinPool pool) {
+        validate(graph, durations);
+        int[][] levels = graph.topologicalLevels(pool);
+        if (levels == null) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+        int n = graph.getNumVertices();
+        Edges edges = new Edges(graph);
+        
+        // Forward by level: each job pulls the finish times of its predecessors
+        long[] earliestStart = new long[n];
+        for (int[] level : levels) {
+            forEach(level, pool, v -> {
+                long start = 0;
+                for (int e = edges.reverseOffsets[v]; e < edges.reverseOffsets[v + 1]; e++) {
+                    int u = edges.reverseTargets[e];
+                    start = Math.max(start, earliestStart[u] + durations[u]);
+                }
+                earliestStart[v] = start;
+            });
+        }
+        long makespan = 0;
+        for (int v = 0; v < n; v++) {
+            makespan = Math.max(makespan, earliestStart[v] + durations[v]);
+        }
+        
+        // Backward by level: each job pulls the latest starts of its successors
+        long[] latestStart = new long[n];
+        long finalMakespan = makespan;
+        for (int i = levels.length - 1; i >= 0; i--) {
+            forEach(levels[i], pool, u ->
+                    latestStart[u] = latestFinish(u, finalMakespan, edges, latestStart) - durations[u]);
+        }
+        
+        int[] order = new int[n];
+        int position = 0;
+        for (int[] level : levels) {
+            for (int v : level) {
+                order[position++] = v;
+            }
+        }
+        return new CriticalPath(durations, earliestStart, latestStart, makespan,
+                traceCriticalPath(order, edges, durations, earliestStart, latestStart));
+    }
+    
+    /**
+     * Finds the shortest path weight from a source to every vertex of a DAG, where the weight of a
+     * path is the sum of the weights of its vertices (source included).
+     * 
+     * @param graph the DAG
+     * @param weights the weight of each vertex
+     * @param source the source vertex
+     * @return path weights indexed by vertex (Long.MAX_VALUE for unreachable)
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static long[] shortestPaths(TopologicalSort graph, long[] weights, int source) {
+        return pathWeights(graph, weights, source, null, false);
+    }
+    
+    /**
+     * Finds shortest path weights from a source, reusing a topological order the caller already has.
+     * 
+     * @param graph the DAG
+     * @param weights the weight of each vertex
+     * @param source the source vertex
+     * @param order a topological order of the graph, checked in O(V + E)
+     * @return path weights indexed by vertex (Long.MAX_VALUE for unreachable)
+     * @throws IllegalArgumentException if order is not a topological order of the graph
+     */
+    public static long[] shortestPaths(TopologicalSort graph, long[] weights, int source, int[] order) {
+        return pathWeights(graph, weights, source, order, false);
+    }
+    
+    /**
+     * Finds the longest path weight from a source to every vertex of a DAG, where the weight of a
+     * path is the sum of the weights of its vertices (source included).
+     * 
+     * @param graph the DAG
+     * @param weights the weight of each vertex
+     * @param source the source vertex
+     * @return path weights indexed by vertex (Long.MIN_VALUE for unreachable)
+     * @throws IllegalArgumentException if the graph has a cycle
+     */
+    public static long[] longestPaths(TopologicalSort graph, long[] weights, int source) {
+        return pathWeights(graph, weights, source, null, true);
+    }
+    
+    /**
+     * Finds longest path weights from a source, reusing a topological order the caller already has.
+     * 
+     * @param graph the DAG
+     * @param weights the weight of each vertex
+     * @param source the source vertex
+     * @param order a topological order of the graph, checked in O(V + E)
+     * @return path weights indexed by vertex (Long.MIN_VALUE for unreachable)
+     * @throws IllegalArgumentException if order is not a topological order of the graph
+     */
+    public static long[] longestPaths(TopologicalSort graph, long[] weights, int source, int[] order) {
+        return pathWeights(graph, weights, source, order, true);
+    }
+    
+    /**
+     * Relaxes every edge once in topological order; a null order is computed from the graph.
+     */
+    private static long[] pathWeights(TopologicalSort graph, long[] weights, int source, int[] order,
+                                      boolean longest) {
+        validate(graph, weights);
+        int n = graph.getNumVertices();
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        Edges edges = new Edges(graph);
+        if (order == null) {
+            order = graph.topologicalSort();
+            if (order == null) {
+                throw new IllegalArgumentException("Graph contains a cycle");
+            }
+        } else {
+            validateOrder(order, edges);
+        }
+        
+        long unreachable = longest ? Long.MIN_VALUE : Long.MAX_VALUE;
+        long[] best = new long[n];
+        Arrays.fill(best, unreachable);
+        best[source] = weights[source];
+        
+        // One sweep in topological order relaxes every edge after its source is final
+        for (int u : order) {
+            if (best[u] == unreachable) {
+                continue;
+            }
+            for (int e = edges.offsets[u]; e < edges.offsets[u + 1]; e++) {
+                int v = edges.targets[e];
+                long candidate = best[u] + weights[v];
+                if (longest ? candidate > best[v] : candidate < best[v]) {
+                    best[v] = candidate;
+                }
+            }
+        }
+        return best;
+    }
+    
+    private static void validate(TopologicalSort graph, long[] weights) {
+        if (weights.length != graph.getNumVertices()) {
+            throw new IllegalArgumentException("Expected one weight per vertex");
+        }
+    }
+    
+    /**
+     * Checks that order is a permutation of the vertices that puts every edge's source first.
+     */
+    private static void validateOrder(int[] order, Edges edges) {
+        int n = edges.offsets.length - 1;
+        if (order.length != n) {
+            throw new IllegalArgumentException("Not a topological order of the graph");
+        }
+        int[] position = new int[n];
+        Arrays.fill(position, -1);
+        for (int i = 0; i < n; i++) {
+            int v = order[i];
+            if (v < 0 || v >= n || position[v] != -1) {
+                throw new IllegalArgumentException("Not a topological order of the graph");
+            }
+            position[v] = i;
+        }
+        for (int u = 0; u < n; u++) {
+            for (int e = edges.offsets[u]; e < edges.offsets[u + 1]; e++) {
+                if (position[u] >= position[edges.targets[e]]) {
+                    throw new IllegalArgumentException("Not a topological order of the graph");
+                }
+            }
+        }
+    }
+    
+    private static long latestFinish(int u, long makespan, Edges edges, long[] latestStart) {
+        long finish = makespan;
+        for (int e = edges.offsets[u]; e < edges.offsets[u + 1]; e++) {
+            finish = Math.min(finish, latestStart[edges.targets[e]]);
+        }
+        return finish;
+    }
+    
+    private static void forEach(int[] level, ForkJoinPool pool, IntConsumer action) {
+        if (level.length < 1024) {
+            for (int v : level) {
+                action.accept(v);
+            }
+        } else {
+            pool.submit(() -> IntStream.of(level).parallel().forEach(action)).join();
+        }
+    }
+    
+    /**
+     * Follows zero-slack jobs from a zero-slack source; every tight successor of a critical job
+     * that is itself critical continues the chain until a job finishes at the makespan.
+     */
+    private static int[] traceCriticalPath(int[] order, Edges edges, long[] durations, long[] earliestStart,
+                                           long[] latestStart) {
+        List<Integer> path = new ArrayList<>();
+        int current = -1;
+        for (int v : order) {
+            if (earliestStart[v] == 0 && latestStart[v] == 0) {
+                current = v;
+                break;
+            }
+        }
+        while (current != -1) {
+            path.add(current);
+            long finish = earliestStart[current] + durations[current];
+            int next = -1;
+            for (int e = edges.offsets[current]; e < edges.offsets[current + 1]; e++) {
+                int v = edges.targets[e];
+                if (earliestStart[v] == finish && latestStart[v] == earliestStart[v]) {
+                    next = v;
+                    break;
+                }
+            }
+            current = next;
+        }
+        return path.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    /**
+     * Gets the total time needed to finish all jobs.
+     * 
+     * @return the makespan
+     */
+    public long getMakespan() {
+        return makespan;
+    }
+    
+    /**
+     * Gets the earliest time a job can start.
+     * 
+     * @param job the job
+     * @return its earliest start
+     */
+    public long getEarliestStart(int job) {
+        return earliestStart[job];
+    }
+    
+    /**
+     * Gets the earliest time a job can finish.
+     * 
+     * @param job the job
+     * @return its earliest finish
+     */
+    public long getEarliestFinish(int job) {
+        return earliestStart[job] + durations[job];
+    }
+    
+    /**
+     * Gets the latest time a job can start without delaying the makespan.
+     * 
+     * @param job the job
+     * @return its latest start
+     */
+    public long getLatestStart(int job) {
+        return latestStart[job];
+    }
+    
+    /**
+     * Gets how long a job can be delayed without delaying the makespan.
+     * 
+     * @param job the job
+     * @return its slack
+     */
+    public long getSlack(int job) {
+        return latestStart[job] - earliestStart[job];
+    }
+    
+    /**
+     * Checks whether a job has no slack.
+     * 
+     * @param job the job
+     * @return true if delaying the job delays the makespan
+     */
+    public boolean isCritical(int job) {
+        return latestStart[job] == earliestStart[job];
+    }
+    
+    /**
+     * Gets one critical path: a chain of critical jobs from time 0 to the makespan.
+     * 
+     * @return the jobs in order
+     */
+    public int[] getCriticalPath() {
+        return criticalPath.clone();
+    }
+    
+    /**
+     * Example usage of critical path analysis
+     */
+    public static void main(String[] args) {
+        // Course schedule from TopologicalSort, with course lengths in weeks
+        TopologicalSort courses = new TopologicalSort(5);
+        courses.addEdge(0, 1);
+        courses.addEdge(0, 2);
+        courses.addEdge(1, 2);
+        courses.addEdge(1, 3);
+        courses.addEdge(2, 4);
+        courses.addEdge(3, 4);
+        long[] weeks = {3, 2, 4, 1, 2};
+        
+        CriticalPath schedule = analyze(courses, weeks);
+        System.out.println("Total weeks: " + schedule.getMakespan());
+        System.out.println("Critical path: " + Arrays.toString(schedule.getCriticalPath()));
+        for (int course = 0; course < weeks.length; course++) {
+            System.out.println("Course " + course + ": earliest start " + schedule.getEarliestStart(course)
+                    + ", slack " + schedule.getSlack(course));
+        }
+        System.out.println("Longest path weights from 0: " + Arrays.toString(longestPaths(courses, weeks, 0)));
+        System.out.println("Shortest path weights from 0: " + Arrays.toString(shortestPaths(courses, weeks, 0)));
+        
+        // Large random job graph
+        int n = 1_000_000;
+        TopologicalSort jobs = new TopologicalSort(n);
+        Random random = new Random(12);
+        for (int i = 0; i < 4_000_000; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (u != v) {
+                jobs.addEdge(Math.min(u, v), Math.max(u, v));
+            }
+        }
+        long[] durations = new long[n];
+        for (int i = 0; i < n; i++) {
+            durations[i] = 1 + random.nextInt(1000);
+        }
+        
+        int[] order = jobs.topologicalSort();
+        long startTime = System.currentTimeMillis();
+        CriticalPath sequential = analyze(jobs, durations, order);
+        long endTime = System.currentTimeMillis();
+        System.out.println("\nSequential sweep on " + n + " jobs took " + (endTime - startTime) + "ms, makespan "
+                + sequential.getMakespan() + ", critical path of " + sequential.getCriticalPath().length + " jobs");
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            startTime = System.currentTimeMillis();
+            CriticalPath parallel = analyze(jobs, durations, pool);
+            endTime = System.currentTimeMillis();
+            
+            boolean same = parallel.getMakespan() == sequential.getMakespan();
+            for (int v = 0; v < n; v++) {
+                same &= parallel.getEarliestStart(v) == sequential.getEarliestStart(v)
+                        && parallel.getLatestStart(v) == sequential.getLatestStart(v);
+            }
+            System.out.println("Level-parallel evaluation with " + threads + " threads took " + (endTime - startTime)
+                    + "ms (same schedule: " + same + ")");
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,351 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of the Delta-Stepping single-source shortest path algorithm (Meyer and Sanders).
+ * 
+ * Delta-stepping relaxes Dijkstra's strict one-vertex-at-a-time order. Tentative distances are
+ * grouped into buckets of width delta, and all vertices of the lowest non-empty bucket are
+ * processed together, in parallel:
+ * 1. Relax the "light" edges (weight <= delta) of every vertex in the bucket; this can put
+ *    vertices back into the same bucket, so repeat until the bucket stays empty
+ * 2. Relax the "heavy" edges (weight > delta) of every vertex removed from the bucket; these
+ *    can only reach later buckets, so they are relaxed once
+ * Distances are lowered with compare-and-set, so concurrent relaxations of the same vertex
+ * are safe. The result is identical to Dijkstra's algorithm.
+ * 
+ * A small delta behaves like Dijkstra (little parallelism, little wasted work); a large delta
+ * behaves like Bellman-Ford (much parallelism, vertices re-relaxed more often). A delta around
+ * the average edge weight divided by the average degree is a reasonable start.
+ * 
+ * Buckets are a cyclic array of maxWeight / delta + 2 lists, which is enough because pending
+ * distances never span more than maxWeight. When that count would exceed 2^20 (huge weights
+ * with a small delta), the buckets are kept sparse instead, in a TreeMap from bucket index to
+ * list, and the search jumps straight to the next non-empty bucket.
+ * 
+ * Tentative distances are summed in long, and a path longer than Integer.MAX_VALUE is never
+ * relaxed, so such vertices stay unreachable instead of wrapping to a negative distance.
+ * 
+ * Time Complexity: O(V + E + L * C / delta) work on graphs with maximum weight C, where L is
+ * the number of light-edge rounds per bucket; the span shrinks with the number of threads
+ * Space Complexity: O(V + E) for distances and bucket contents
+ */
+public class DeltaSteppingSSSP {
+    
+    // Frontiers smaller than this are relaxed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1024;
+    
+    // Above this many buckets the cyclic array is replaced by sparse buckets
+    private static final int MAX_DENSE_BUCKETS = 1 << 20;
+    
+    /**
+     * Growable int array used for frontiers and bucket contents.
+     */
+    private static class IntList {
+        int size;
+        int[] items = new int[16];
+        
+        void add(int value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+    
+    /**
+     * Buckets indexed by distance / delta: a cyclic array, or a TreeMap when the array would be too large.
+     */
+    private static class Buckets {
+        private final IntList[] cyclic;
+        private final TreeMap<Integer, IntList> sparse;
+        
+        Buckets(int maxWeight, int delta) {
+            // Pending distances lie within [bucket * delta, bucket * delta + maxWeight], so a
+            // cyclic array of maxWeight / delta + 2 buckets never wraps onto a live bucket
+            long count = (long) maxWeight / delta + 2;
+            if (count > MAX_DENSE_BUCKETS) {
+                cyclic = null;
+                sparse = new TreeMap<>();
+            } else {
+                cyclic = new IntList[(int) count];
+                for (int i = 0; i < cyclic.length; i++) {
+                    cyclic[i] = new IntList();
+                }
+                sparse = null;
+            }
+        }
+        
+        IntList get(int bucket) {
+            if (cyclic != null) {
+                return cyclic[bucket % cyclic.length];
+            }
+            return sparse.computeIfAbsent(bucket, b -> new IntList());
+        }
+        
+        /**
+         * Gets the first non-empty bucket at or after from; some bucket must be non-empty.
+         */
+        int next(int from) {
+            if (cyclic != null) {
+                while (cyclic[from % cyclic.length].size == 0) {
+                    from++;
+                }
+                return from;
+            }
+            return sparse.ceilingKey(from);
+        }
+        
+        // Drops a processed bucket from the sparse map
+        void release(int bucket) {
+            if (sparse != null) {
+                sparse.remove(bucket);
+            }
+        }
+    }
+    
+    /**
+     * Finds the shortest path from a source vertex to all other vertices, like
+     * {@link DijkstraAlgorithm#findShortestPaths(DijkstraAlgorithm.Graph, int)}.
+     * 
+     * @param graph the graph to find shortest paths in
+     * @param source the source vertex
+     * @param delta the bucket width
+     * @return a map from vertex to its shortest distance from the source
+     */
+    public static Map<Integer, Integer> findShortestPaths(DijkstraAlgorithm.Graph graph, int source, int delta) {
+        int[] distances = findShortestPaths(graph.freeze(), source, delta, ForkJoinPool.commonPool());
+        
+        Map<Integer, Integer> result = new HashMap<>();
+        for (int i = 0; i < distances.length; i++) {
+            result.put(i, distances[i]);
+        }
+        return result;
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex using the common fork-join pool.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @param delta the bucket width
+     * @return an array of distances indexed by vertex (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] findShortestPaths(DijkstraAlgorithm.CsrGraph graph, int source, int delta) {
+        return findShortestPaths(graph, source, delta, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex, relaxing each bucket in parallel on a pool.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @param delta the bucket width (at least 1)
+     * @param pool the pool to run relaxations on
+     * @return an array of distances indexed by vertex (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] findShortestPaths(DijkstraAlgorithm.CsrGraph graph, int source, int delta, ForkJoinPool pool) {
+        // Validate arguments
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        if (delta < 1) {
+            throw new IllegalArgumentException("Delta must be positive");
+        }
+        
+        int n = graph.getNumVertices();
+        AtomicIntegerArray distances = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            distances.set(i, Integer.MAX_VALUE);
+        }
+        distances.set(source, 0);
+        
+        Buckets buckets = new Buckets(graph.getMaxWeight(), delta);
+        buckets.get(0).add(source);
+        long pending = 1;
+        
+        int[] frontierStamp = new int[n]; // dedupes a vertex within one frontier
+        int[] settledStamp = new int[n];  // dedupes a vertex within the settled set of a bucket
+        int stamp = 0;
+        
+        int chunks = Math.max(1, pool.getParallelism() * 4);
+        IntList[] requests = new IntList[chunks];
+        for (int i = 0; i < chunks; i++) {
+            requests[i] = new IntList();
+        }
+        
+        for (int bucket = 0; pending > 0; bucket++) {
+            bucket = buckets.next(bucket);
+            IntList current = buckets.get(bucket);
+            
+            // Vertices removed from this bucket; their heavy edges are relaxed at the end
+            IntList settled = new IntList();
+            int settledRound = ++stamp;
+            
+            while (current.size > 0) {
+                // Take the bucket's contents, dropping duplicates and entries whose distance moved lower
+                int round = ++stamp;
+                IntList frontier = new IntList();
+                for (int i = 0; i < current.size; i++) {
+                    int v = current.items[i];
+                    if (frontierStamp[v] != round && distances.get(v) / delta == bucket) {
+                        frontierStamp[v] = round;
+                        frontier.add(v);
+                        if (settledStamp[v] != settledRound) {
+                            settledStamp[v] = settledRound;
+                            settled.add(v);
+                        }
+                    }
+                }
+                pending -= current.size;
+                current.size = 0;
+                
+                relaxAll(graph, distances, frontier, delta, true, pool, requests);
+                pending += enqueue(requests, distances, buckets, delta);
+            }
+            
+            relaxAll(graph, distances, settled, delta, false, pool, requests);
+            pending += enqueue(requests, distances, buckets, delta);
+            buckets.release(bucket);
+        }
+        
+        int[] result = new int[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = distances.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * Relaxes the light or heavy edges of all given vertices, split into chunks that run in parallel.
+     * Each chunk records the vertices it improved in its own request list.
+     */
+    private static void relaxAll(DijkstraAlgorithm.CsrGraph graph, AtomicIntegerArray distances, IntList vertices,
+                                 int delta, boolean light, ForkJoinPool pool, IntList[] requests) {
+        if (vertices.size < PARALLEL_THRESHOLD) {
+            relaxRange(graph, distances, vertices, 0, vertices.size, delta, light, requests[0]);
+            return;
+        }
+        
+        int chunks = requests.length;
+        int chunkSize = (vertices.size + chunks - 1) / chunks;
+        pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            int from = chunk * chunkSize;
+            int to = Math.min(vertices.size, from + chunkSize);
+            relaxRange(graph, distances, vertices, from, to, delta, light, requests[chunk]);
+        })).join();
+    }
+    
+    private static void relaxRange(DijkstraAlgorithm.CsrGraph graph, AtomicIntegerArray distances, IntList vertices,
+                                   int from, int to, int delta, boolean light, IntList out) {
+        for (int i = from; i < to; i++) {
+            int v = vertices.items[i];
+            int distance = distances.get(v);
+            for (int e = graph.edgeStart(v), end = graph.edgeEnd(v); e < end; e++) {
+                int weight = graph.weight(e);
+                if ((weight <= delta) != light) {
+                    continue;
+                }
+                
+                // A sum at or above Integer.MAX_VALUE would be read as unreachable (or wrap), so skip it
+                long sum = (long) distance + weight;
+                if (sum >= Integer.MAX_VALUE) {
+                    continue;
+                }
+                
+                // Lower the neighbor's distance with a CAS loop; losing a race to a shorter value is fine
+                int neighbor = graph.target(e);
+                int newDistance = (int) sum;
+                int old = distances.get(neighbor);
+                while (newDistance < old) {
+                    if (distances.compareAndSet(neighbor, old, newDistance)) {
+                        out.add(neighbor);
+                        break;
+                    }
+                    old = distances.get(neighbor);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Moves the recorded improvements into the buckets of the vertices' current distances.
+     * @return the number of entries added
+     */
+    private static int enqueue(IntList[] requests, AtomicIntegerArray distances, Buckets buckets, int delta) {
+        int added = 0;
+        for (IntList request : requests) {
+            for (int i = 0; i < request.size; i++) {
+                int v = request.items[i];
+                buckets.get(distances.get(v) / delta).add(v);
+            }
+            added += request.size;
+            request.size = 0;
+        }
+        return added;
+    }
+    
+    /**
+     * Example usage of Delta-Stepping
+     */
+    public static void main(String[] args) {
+        // Small example: same graph as in DijkstraAlgorithm
+        DijkstraAlgorithm.Graph graph = new DijkstraAlgorithm.Graph(6, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 4);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 7);
+        graph.addEdge(2, 4, 3);
+        graph.addEdge(3, 5, 1);
+        graph.addEdge(4, 3, 2);
+        graph.addEdge(4, 5, 5);
+        
+        System.out.println("Delta-stepping distances from 0: " + findShortestPaths(graph, 0, 3));
+        System.out.println("Dijkstra distances from 0:       " + DijkstraAlgorithm.findShortestPaths(graph, 0));
+        
+        // A path longer than Integer.MAX_VALUE is reported as unreachable, for dense and sparse buckets
+        DijkstraAlgorithm.Graph far = new DijkstraAlgorithm.Graph(3, true);
+        far.addEdge(0, 1, 1);
+        far.addEdge(1, 2, Integer.MAX_VALUE);
+        long[] farExpected = DijkstraAlgorithm.findShortestPathsLong(far, 0);
+        for (int delta : new int[] {1, 1000, Integer.MAX_VALUE}) {
+            int[] farDistances = findShortestPaths(far.freeze(), 0, delta);
+            boolean same = true;
+            for (int v = 0; v < farDistances.length; v++) {
+                long expected = farExpected[v] >= Integer.MAX_VALUE ? Integer.MAX_VALUE : farExpected[v];
+                same &= farDistances[v] == expected;
+            }
+            System.out.println("Overflowing path with delta " + delta + ": " + Arrays.toString(farDistances)
+                    + " (same as long Dijkstra: " + same + ")");
+        }
+        
+        // Large random graph: compare against sequential Dijkstra with several thread counts
+        int n = 1_000_000;
+        DijkstraAlgorithm.Graph large = new DijkstraAlgorithm.Graph(n, true);
+        Random random = new Random(5);
+        for (int i = 0; i < 8_000_000; i++) {
+            large.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(100));
+        }
+        DijkstraAlgorithm.CsrGraph csr = large.freeze();
+        
+        long startTime = System.currentTimeMillis();
+        int[] expected = DijkstraAlgorithm.findShortestPathsIndexed(csr, 0);
+        long endTime = System.currentTimeMillis();
+        System.out.println("\nSequential Dijkstra took " + (endTime - startTime) + "ms");
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            for (int delta : new int[] {10, 50}) {
+                startTime = System.currentTimeMillis();
+                int[] distances = findShortestPaths(csr, 0, delta, pool);
+                endTime = System.currentTimeMillis();
+                System.out.println("Delta-stepping with " + threads + " threads, delta " + delta + " took "
+                        + (endTime - startTime) + "ms (same distances: " + Arrays.equals(expected, distances) + ")");
+            }
+            pool.shutdown();
+        }
+    }
+}
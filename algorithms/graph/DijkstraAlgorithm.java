@@ -11,9 +11,15 @@
  * Space Complexity: O(V) for the distance and previous maps, and priority queue
  */
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToLongFunction;
+import java.util.stream.IntStream;
 
 public class DijkstraAlgorithm {
     
+    // Largest edge weight for which findShortestPathsAuto picks Dial's bucket queue
+    private static final int DIAL_MAX_WEIGHT = 1000;
+    
     /**
      * Represents a weighted graph using an adjacency list.
      */
@@ -74,6 +80,70 @@ public class DijkstraAlgorithm {
             }
         }
         
+        /**
+         * Changes the weight of the edge from source to destination (the first one, if there
+         * are parallel edges). In an undirected graph the reverse edge changes as well.
+         * 
+         * @param source the source vertex
+         * @param destination the destination vertex
+         * @param weight the new weight
+         * @return true if the edge exists
+         */
+        public boolean updateEdgeWeight(int source, int destination, int weight) {
+            Edge edge = findEdge(source, destination);
+            if (edge == null) {
+                return false;
+            }
+            edge.weight = weight;
+            
+            // If undirected, update the edge from destination to source as well
+            if (!isDirected && source != destination) {
+                findEdge(destination, source).weight = weight;
+            }
+            return true;
+        }
+        
+        /**
+         * Removes the edge from source to destination (the first one, if there are parallel
+         * edges). In an undirected graph the reverse edge is removed as well.
+         * 
+         * @param source the source vertex
+         * @param destination the destination vertex
+         * @return true if the edge existed
+         */
+        public boolean removeEdge(int source, int destination) {
+            Edge edge = findEdge(source, destination);
+            if (edge == null) {
+                return false;
+            }
+            adjacencyList.get(source).remove(edge);
+            
+            // If undirected, remove the edge from destination to source as well
+            if (!isDirected && source != destination) {
+                adjacencyList.get(destination).remove(findEdge(destination, source));
+            }
+            return true;
+        }
+        
+        /**
+         * Finds the first edge from source to destination.
+         * 
+         * @return the edge, or null if there is none
+         */
+        private Edge findEdge(int source, int destination) {
+            // Validate vertices
+            if (source < 0 || source >= numVertices || destination < 0 || destination >= numVertices) {
+                throw new IllegalArgumentException("Invalid vertex");
+            }
+            
+            for (Edge edge : adjacencyList.get(source)) {
+                if (edge.destination == destination) {
+                    return edge;
+                }
+            }
+            return null;
+        }
+        
         /**
          * Gets the adjacent edges for a vertex.
          * 
@@ -97,6 +167,208 @@ public class DijkstraAlgorithm {
         public int getNumVertices() {
             return numVertices;
         }
+        
+        /**
+         * Checks whether the graph is directed.
+         * 
+         * @return true if edges only go from source to destination
+         */
+        public boolean isDirected() {
+            return isDirected;
+        }
+        
+        /**
+         * Freezes the current edges into an immutable compressed sparse row (CSR) graph.
+         * The builder can keep being modified afterwards; the returned graph is a snapshot.
+         * 
+         * @return a CSR copy of this graph
+         */
+        public CsrGraph freeze() {
+            // Count out-degrees to size the offsets array
+            int[] offsets = new int[numVertices + 1];
+            for (int i = 0; i < numVertices; i++) {
+                offsets[i + 1] = offsets[i] + adjacencyList.get(i).size();
+            }
+            
+            // Copy edges of each vertex into one contiguous slice
+            int[] targets = new int[offsets[numVertices]];
+            int[] weights = new int[offsets[numVertices]];
+            for (int i = 0; i < numVertices; i++) {
+                int index = offsets[i];
+                for (Edge edge : adjacencyList.get(i)) {
+                    targets[index] = edge.destination;
+                    weights[index] = edge.weight;
+                    index++;
+                }
+            }
+            
+            return new CsrGraph(numVertices, isDirected, offsets, targets, weights);
+        }
+    }
+    
+    /**
+     * Read access to a graph's edges in CSR layout, so one search loop serves both
+     * {@link CsrGraph} and {@link MappedGraph}.
+     */
+    interface CsrEdges {
+        int getNumVertices();
+        
+        int edgeStart(int vertex);
+        
+        int edgeEnd(int vertex);
+        
+        int target(int edge);
+        
+        int weight(int edge);
+    }
+    
+    /**
+     * Immutable graph in compressed sparse row (CSR) form.
+     * 
+     * The outgoing edges of vertex v are the indices offsets[v] .. offsets[v + 1] - 1
+     * of the targets and weights arrays. This costs 8 bytes per edge (plus 4 per vertex)
+     * instead of one Edge object and a list slot per edge, and scanning a vertex's edges
+     * reads two contiguous array ranges.
+     */
+    public static final class CsrGraph implements CsrEdges {
+        private final int numVertices;
+        private final boolean isDirected;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        private final int maxWeight;
+        
+        private CsrGraph(int numVertices, boolean isDirected, int[] offsets, int[] targets, int[] weights) {
+            this.numVertices = numVertices;
+            this.isDirected = isDirected;
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+            
+            int max = 0;
+            for (int weight : weights) {
+                max = Math.max(max, weight);
+            }
+            this.maxWeight = max;
+        }
+        
+        /**
+         * Wraps existing CSR arrays (not copied) as a directed graph, for algorithms
+         * in this package that build their own search graphs.
+         */
+        static CsrGraph of(int numVertices, int[] offsets, int[] targets, int[] weights) {
+            return new CsrGraph(numVertices, true, offsets, targets, weights);
+        }
+        
+        /**
+         * Gets the number of vertices in the graph.
+         * 
+         * @return the number of vertices
+         */
+        public int getNumVertices() {
+            return numVertices;
+        }
+        
+        /**
+         * Gets the number of stored (directed) edges. An undirected edge counts twice.
+         * 
+         * @return the number of edges
+         */
+        public int getNumEdges() {
+            return targets.length;
+        }
+        
+        /**
+         * Gets the largest edge weight (0 for a graph without edges).
+         * 
+         * @return the maximum edge weight
+         */
+        public int getMaxWeight() {
+            return maxWeight;
+        }
+        
+        /**
+         * Gets the index of the first outgoing edge of a vertex.
+         * 
+         * @param vertex the vertex
+         * @return the first edge index
+         */
+        public int edgeStart(int vertex) {
+            return offsets[vertex];
+        }
+        
+        /**
+         * Gets the index one past the last outgoing edge of a vertex.
+         * 
+         * @param vertex the vertex
+         * @return the end edge index (exclusive)
+         */
+        public int edgeEnd(int vertex) {
+            return offsets[vertex + 1];
+        }
+        
+        /**
+         * Gets the destination vertex of an edge.
+         * 
+         * @param edge the edge index
+         * @return the destination vertex
+         */
+        public int target(int edge) {
+            return targets[edge];
+        }
+        
+        /**
+         * Gets the weight of an edge.
+         * 
+         * @param edge the edge index
+         * @return the edge weight
+         */
+        public int weight(int edge) {
+            return weights[edge];
+        }
+        
+        /**
+         * Builds the graph with every edge reversed, as used by backward searches.
+         * An undirected graph is its own reverse.
+         * 
+         * @return the reversed graph
+         */
+        public CsrGraph reverse() {
+            if (!isDirected) {
+                return this;
+            }
+            
+            // Count in-degrees, then bucket each edge under its target
+            int[] reverseOffsets = new int[numVertices + 1];
+            for (int target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+            for (int i = 0; i < numVertices; i++) {
+                reverseOffsets[i + 1] += reverseOffsets[i];
+            }
+            
+            int[] next = Arrays.copyOf(reverseOffsets, numVertices);
+            int[] reverseTargets = new int[targets.length];
+            int[] reverseWeights = new int[weights.length];
+            for (int v = 0; v < numVertices; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int slot = next[targets[e]]++;
+                    reverseTargets[slot] = v;
+                    reverseWeights[slot] = weights[e];
+                }
+            }
+            
+            return new CsrGraph(numVertices, true, reverseOffsets, reverseTargets, reverseWeights);
+        }
+        
+        /**
+         * Estimates the heap footprint of the three arrays (ignoring array headers).
+         * 
+         * @return the estimated size in bytes
+         */
+        public long estimatedSizeInBytes() {
+            return 4L * offsets.length + 4L * targets.length + 4L * weights.length;
+        }
     }
     
     /**
@@ -118,163 +390,1179 @@ public class DijkstraAlgorithm {
     }
     
     /**
-     * Finds the shortest path from a source vertex to all other vertices using Dijkstra's algorithm.
+     * Binary min-heap over the vertices 0..capacity-1 with decrease-key.
+     * 
+     * A positions array maps each vertex to its slot in the heap, so a vertex is stored at most
+     * once and its key can be lowered in place. The heap never holds more than capacity entries
+     * and no objects are allocated after construction. Keys are long so that sums of int
+     * distances (or distance plus heuristic) can be compared without overflow.
+     */
+    public static final class IndexedMinHeap {
+        private final int[] heap;      // heap slot -> vertex
+        private final long[] keys;     // heap slot -> key
+        private final int[] positions; // vertex -> heap slot, or -1 if not in the heap
+        private int size;
+        
+        /**
+         * Constructs an empty heap for vertices 0..capacity-1.
+         * 
+         * @param capacity the number of vertices
+         */
+        public IndexedMinHeap(int capacity) {
+            heap = new int[capacity];
+            keys = new long[capacity];
+            positions = new int[capacity];
+            Arrays.fill(positions, -1);
+        }
+        
+        /**
+         * Checks whether the heap is empty.
+         * 
+         * @return true if no vertex is in the heap
+         */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+        
+        /**
+         * Gets the number of vertices in the heap.
+         * 
+         * @return the heap size
+         */
+        public int size() {
+            return size;
+        }
+        
+        /**
+         * Checks whether a vertex is in the heap.
+         * 
+         * @param vertex the vertex
+         * @return true if the vertex is in the heap
+         */
+        public boolean contains(int vertex) {
+            return positions[vertex] != -1;
+        }
+        
+        /**
+         * Gets the smallest key in the heap. The heap must not be empty.
+         * 
+         * @return the minimum key
+         */
+        public long peekKey() {
+            return keys[0];
+        }
+        
+        /**
+         * Inserts a vertex, or lowers its key if it is already present with a larger key.
+         * 
+         * @param vertex the vertex
+         * @param key the new key
+         * @return true if the heap changed
+         */
+        public boolean insertOrDecrease(int vertex, long key) {
+            int slot = positions[vertex];
+            if (slot == -1) {
+                slot = size++;
+                heap[slot] = vertex;
+                keys[slot] = key;
+                positions[vertex] = slot;
+            } else if (key < keys[slot]) {
+                keys[slot] = key;
+            } else {
+                return false;
+            }
+            siftUp(slot);
+            return true;
+        }
+        
+        /**
+         * Removes the vertex with the smallest key. The heap must not be empty.
+         * 
+         * @return the removed vertex
+         */
+        public int poll() {
+            int top = heap[0];
+            positions[top] = -1;
+            size--;
+            if (size > 0) {
+                heap[0] = heap[size];
+                keys[0] = keys[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return top;
+        }
+        
+        /**
+         * Removes all vertices in O(size).
+         */
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                positions[heap[i]] = -1;
+            }
+            size = 0;
+        }
+        
+        private void siftUp(int slot) {
+            int vertex = heap[slot];
+            long key = keys[slot];
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                move(parent, slot);
+                slot = parent;
+            }
+            place(vertex, key, slot);
+        }
+        
+        private void siftDown(int slot) {
+            int vertex = heap[slot];
+            long key = keys[slot];
+            int half = size >>> 1;
+            while (slot < half) {
+                int child = 2 * slot + 1;
+                if (child + 1 < size && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                move(child, slot);
+                slot = child;
+            }
+            place(vertex, key, slot);
+        }
+        
+        private void move(int from, int to) {
+            heap[to] = heap[from];
+            keys[to] = keys[from];
+            positions[heap[to]] = to;
+        }
+        
+        private void place(int vertex, long key, int slot) {
+            heap[slot] = vertex;
+            keys[slot] = key;
+            positions[vertex] = slot;
+        }
+    }
+    
+    /**
+     * Monotone bucket queue for Dial's algorithm on graphs with integer weights 0..maxWeight.
+     * 
+     * Queued distances always lie within [current, current + maxWeight], so maxWeight + 1 buckets
+     * used cyclically (bucket = distance mod (maxWeight + 1)) are enough. Each bucket is an
+     * intrusive doubly linked list threaded through per-vertex next/previous arrays, so insertion,
+     * decrease-key and removal are O(1) and allocation-free.
+     */
+    private static final class BucketQueue {
+        private final int[] heads;    // bucket -> first vertex, or -1
+        private final int[] next;     // vertex -> next vertex in its bucket, or -1
+        private final int[] previous; // vertex -> previous vertex in its bucket, or -1 if it is the head
+        private final int[] keys;     // vertex -> queued distance, or -1 if not queued
+        private int size;
+        private int cursor;           // smallest distance that may still be queued
+        
+        BucketQueue(int numVertices, int maxWeight) {
+            heads = new int[maxWeight + 1];
+            next = new int[numVertices];
+            previous = new int[numVertices];
+            keys = new int[numVertices];
+            Arrays.fill(heads, -1);
+            Arrays.fill(keys, -1);
+        }
+        
+        boolean isEmpty() {
+            return size == 0;
+        }
+        
+        /**
+         * Queues a vertex, moving it to a new bucket if it is already queued with a larger distance.
+         */
+        void insertOrDecrease(int vertex, int distance) {
+            if (keys[vertex] != -1) {
+                unlink(vertex);
+            }
+            int bucket = distance % heads.length;
+            keys[vertex] = distance;
+            previous[vertex] = -1;
+            next[vertex] = heads[bucket];
+            if (heads[bucket] != -1) {
+                previous[heads[bucket]] = vertex;
+            }
+            heads[bucket] = vertex;
+            size++;
+        }
+        
+        /**
+         * Removes a vertex with the smallest distance, scanning forward over empty buckets.
+         */
+        int poll() {
+            while (heads[cursor % heads.length] == -1) {
+                cursor++;
+            }
+            int vertex = heads[cursor % heads.length];
+            unlink(vertex);
+            return vertex;
+        }
+        
+        private void unlink(int vertex) {
+            int bucket = keys[vertex] % heads.length;
+            if (previous[vertex] == -1) {
+                heads[bucket] = next[vertex];
+            } else {
+                next[previous[vertex]] = next[vertex];
+            }
+            if (next[vertex] != -1) {
+                previous[next[vertex]] = previous[vertex];
+            }
+            keys[vertex] = -1;
+            size--;
+        }
+    }
+    
+    /**
+     * Reusable per-thread state for repeated shortest-path queries on graphs with vertices 0..V-1.
+     * 
+     * Distances, predecessors and the settled flags live in plain int arrays. Instead of clearing
+     * them between queries, every entry is stamped with the epoch of the query that wrote it and
+     * entries with an older stamp read as unreached; resetting only bumps the epoch and empties
+     * the heap, which costs O(vertices still queued) rather than O(V). A workspace is not
+     * thread-safe: give each thread its own.
+     */
+    public static final class ShortestPathWorkspace {
+        private final int[] distances;
+        private final int[] previous;
+        private final int[] reachedEpoch; // distances/previous are valid when equal to epoch
+        private final int[] settledEpoch; // vertex is settled when equal to epoch
+        private final IndexedMinHeap heap;
+        private int epoch;
+        private int settledCount;
+        
+        /**
+         * Constructs a workspace for graphs with up to the given number of vertices.
+         * 
+         * @param capacity the maximum number of vertices
+         */
+        public ShortestPathWorkspace(int capacity) {
+            distances = new int[capacity];
+            previous = new int[capacity];
+            reachedEpoch = new int[capacity];
+            settledEpoch = new int[capacity];
+            heap = new IndexedMinHeap(capacity);
+        }
+        
+        /**
+         * Gets the maximum number of vertices this workspace can handle.
+         * 
+         * @return the capacity
+         */
+        public int getCapacity() {
+            return distances.length;
+        }
+        
+        /**
+         * Gets the distance computed by the last query.
+         * 
+         * @param vertex the vertex
+         * @return the distance, or Integer.MAX_VALUE if the vertex was not reached
+         */
+        public int getDistance(int vertex) {
+            return reachedEpoch[vertex] == epoch ? distances[vertex] : Integer.MAX_VALUE;
+        }
+        
+        /**
+         * Gets the predecessor on the shortest path computed by the last query.
+         * 
+         * @param vertex the vertex
+         * @return the previous vertex, or -1 if none
+         */
+        public int getPrevious(int vertex) {
+            return reachedEpoch[vertex] == epoch ? previous[vertex] : -1;
+        }
+        
+        /**
+         * Checks whether the last query settled (finalized) a vertex.
+         * 
+         * @param vertex the vertex
+         * @return true if the vertex's distance is final
+         */
+        public boolean isSettled(int vertex) {
+            return settledEpoch[vertex] == epoch;
+        }
+        
+        /**
+         * Gets the number of vertices settled by the last query.
+         * 
+         * @return the settled count
+         */
+        public int getSettledCount() {
+            return settledCount;
+        }
+        
+        /**
+         * Gets the queue of the current search, for algorithms in this package that drive
+         * their own search loop.
+         */
+        IndexedMinHeap heap() {
+            return heap;
+        }
+        
+        /**
+         * Invalidates the previous query's state.
+         * 
+         * @param numVertices the number of vertices of the next graph to search
+         */
+        void reset(int numVertices) {
+            if (numVertices > distances.length) {
+                throw new IllegalArgumentException("Workspace too small for graph");
+            }
+            heap.clear();
+            settledCount = 0;
+            if (++epoch == Integer.MAX_VALUE) {
+                // Stamps would become ambiguous after wrapping, so clear them once
+                Arrays.fill(reachedEpoch, 0);
+                Arrays.fill(settledEpoch, 0);
+                epoch = 1;
+            }
+        }
+        
+        /**
+         * Lowers the tentative distance of a vertex and queues it if the new distance is shorter.
+         * 
+         * @param vertex the vertex
+         * @param distance the candidate distance
+         * @param from the predecessor on the candidate path
+         * @return true if the distance improved
+         */
+        boolean relax(int vertex, int distance, int from) {
+            return relax(vertex, distance, from, distance);
+        }
+        
+        /**
+         * Like {@link #relax(int, int, int)}, but queues the vertex under a separate priority,
+         * e.g. distance plus an A* heuristic estimate.
+         * 
+         * @param vertex the vertex
+         * @param distance the candidate distance
+         * @param from the predecessor on the candidate path
+         * @param priority the heap key to queue the vertex with
+         * @return true if the distance improved
+         */
+        boolean relax(int vertex, int distance, int from, long priority) {
+            if (reachedEpoch[vertex] == epoch && distances[vertex] <= distance) {
+                return false;
+            }
+            reachedEpoch[vertex] = epoch;
+            distances[vertex] = distance;
+            previous[vertex] = from;
+            heap.insertOrDecrease(vertex, priority);
+            return true;
+        }
+        
+        /**
+         * Marks a vertex as settled.
+         * 
+         * @param vertex the vertex
+         */
+        void settle(int vertex) {
+            settledEpoch[vertex] = epoch;
+            settledCount++;
+        }
+    }
+    
+    /**
+     * Finds the shortest path from a source vertex to all other vertices using Dijkstra's algorithm.
+     * 
+     * @param graph the graph to find shortest paths in
+     * @param source the source vertex
+     * @return a map from vertex to its shortest distance from the source
+     */
+    public static Map<Integer, Integer> findShortestPaths(Graph graph, int source) {
+        // Validate source vertex
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        
+        // Distance map: vertex -> shortest distance from source
+        Map<Integer, Integer> distances = new HashMap<>();
+        
+        // Priority queue to get the vertex with the smallest distance
+        PriorityQueue<Entry> pq = new PriorityQueue<>();
+        
+        // Set to keep track of vertices that have been processed
+        Set<Integer> processed = new HashSet<>();
+        
+        // Initialize distances for all vertices to infinity except the source
+        for (int i = 0; i < graph.getNumVertices(); i++) {
+            distances.put(i, i == source ? 0 : Integer.MAX_VALUE);
+        }
+        
+        // Add source to priority queue
+        pq.add(new Entry(source, 0));
+        
+        // Process vertices
+        while (!pq.isEmpty()) {
+            // Get vertex with minimum distance
+            Entry current = pq.poll();
+            int vertex = current.vertex;
+            
+            // Skip if already processed or distance is infinity
+            if (processed.contains(vertex) || distances.get(vertex) == Integer.MAX_VALUE) {
+                continue;
+            }
+            
+            // Mark as processed
+            processed.add(vertex);
+            
+            // Process all adjacent edges
+            for (Graph.Edge edge : graph.getAdjacentEdges(vertex)) {
+                int neighbor = edge.destination;
+                
+                // Skip if already processed
+                if (processed.contains(neighbor)) {
+                    continue;
+                }
+                
+                // Calculate new distance
+                int newDistance = distances.get(vertex) + edge.weight;
+                
+                // Update distance if it's shorter
+                if (newDistance < distances.get(neighbor)) {
+                    distances.put(neighbor, newDistance);
+                    pq.add(new Entry(neighbor, newDistance));
+                }
+            }
+        }
+        
+        return distances;
+    }
+    
+    /**
+     * Finds the shortest path from a source vertex to a specific destination vertex using Dijkstra's algorithm.
+     * 
+     * @param graph the graph to find shortest path in
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPath(Graph graph, int source, int destination) {
+        // Validate vertices
+        if (source < 0 || source >= graph.getNumVertices() || destination < 0 || destination >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        
+        // Distance map: vertex -> shortest distance from source
+        Map<Integer, Integer> distances = new HashMap<>();
+        
+        // Previous map: vertex -> previous vertex in the shortest path
+        Map<Integer, Integer> previous = new HashMap<>();
+        
+        // Priority queue to get the vertex with the smallest distance
+        PriorityQueue<Entry> pq = new PriorityQueue<>();
+        
+        // Set to keep track of vertices that have been processed
+        Set<Integer> processed = new HashSet<>();
+        
+        // Initialize distances for all vertices to infinity except the source
+        for (int i = 0; i < graph.getNumVertices(); i++) {
+            distances.put(i, i == source ? 0 : Integer.MAX_VALUE);
+            previous.put(i, -1); // -1 indicates no previous vertex
+        }
+        
+        // Add source to priority queue
+        pq.add(new Entry(source, 0));
+        
+        // Process vertices
+        while (!pq.isEmpty()) {
+            // Get vertex with minimum distance
+            Entry current = pq.poll();
+            int vertex = current.vertex;
+            
+            // If destination reached, break
+            if (vertex == destination) {
+                break;
+            }
+            
+            // Skip if already processed or distance is infinity
+            if (processed.contains(vertex) || distances.get(vertex) == Integer.MAX_VALUE) {
+                continue;
+            }
+            
+            // Mark as processed
+            processed.add(vertex);
+            
+            // Process all adjacent edges
+            for (Graph.Edge edge : graph.getAdjacentEdges(vertex)) {
+                int neighbor = edge.destination;
+                
+                // Skip if already processed
+                if (processed.contains(neighbor)) {
+                    continue;
+                }
+                
+                // Calculate new distance
+                int newDistance = distances.get(vertex) + edge.weight;
+                
+                // Update distance if it's shorter
+                if (newDistance < distances.get(neighbor)) {
+                    distances.put(neighbor, newDistance);
+                    previous.put(neighbor, vertex);
+                    pq.add(new Entry(neighbor, newDistance));
+                }
+            }
+        }
+        
+        // Reconstruct the path
+        List<Integer> path = new ArrayList<>();
+        
+        // If no path exists
+        if (distances.get(destination) == Integer.MAX_VALUE) {
+            return path;
+        }
+        
+        // Trace back from destination to source
+        for (int vertex = destination; vertex != -1; vertex = previous.get(vertex)) {
+            path.add(0, vertex);
+        }
+        
+        return path;
+    }
+    
+    /**
+     * Finds the shortest path from a source vertex to all other vertices on a CSR graph.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @return a map from vertex to its shortest distance from the source
+     */
+    public static Map<Integer, Integer> findShortestPaths(CsrGraph graph, int source) {
+        ShortestPathWorkspace workspace = new ShortestPathWorkspace(graph.getNumVertices());
+        findShortestPaths(graph, source, workspace);
+        
+        Map<Integer, Integer> result = new HashMap<>();
+        for (int i = 0; i < graph.getNumVertices(); i++) {
+            result.put(i, workspace.getDistance(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Finds the shortest path from a source vertex to a specific destination vertex on a CSR graph.
+     * 
+     * @param graph the CSR graph to find shortest path in
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPath(CsrGraph graph, int source, int destination) {
+        return findShortestPath(graph, source, destination, new ShortestPathWorkspace(graph.getNumVertices()));
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex using an indexed heap with decrease-key.
+     * 
+     * Unlike the PriorityQueue-based versions, each vertex sits in the heap at most once, so the
+     * heap is bounded by V instead of E, and the relaxation loop allocates nothing.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @return an array of distances indexed by vertex (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] findShortestPathsIndexed(CsrGraph graph, int source) {
+        ShortestPathWorkspace workspace = new ShortestPathWorkspace(graph.getNumVertices());
+        findShortestPaths(graph, source, workspace);
+        
+        int[] distances = new int[graph.getNumVertices()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = workspace.getDistance(i);
+        }
+        return distances;
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex with 64-bit distances.
+     * 
+     * @param graph the graph to find shortest paths in
+     * @param source the source vertex
+     * @return an array of distances indexed by vertex (Long.MAX_VALUE for unreachable)
+     */
+    public static long[] findShortestPathsLong(Graph graph, int source) {
+        return findShortestPathsLong(graph.freeze(), source);
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex on a CSR graph with 64-bit distances.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @return an array of distances indexed by vertex (Long.MAX_VALUE for unreachable)
+     */
+    public static long[] findShortestPathsLong(CsrGraph graph, int source) {
+        long[] distances = new long[graph.getNumVertices()];
+        findShortestPathsLong(graph, source, distances, null, new ShortestPathWorkspace(graph.getNumVertices()));
+        return distances;
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex, accumulating them in long arithmetic.
+     * 
+     * The int versions add int distances and can silently wrap around once a path is longer than
+     * Integer.MAX_VALUE (about 24 days in milliseconds). Here distances are long while weights stay
+     * int, so paths up to V * Integer.MAX_VALUE are exact. The caller owns the output arrays and the
+     * workspace (used for its heap, whose keys are already long, and its settled flags), so repeated
+     * queries allocate nothing.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @param distances output array of at least V distances (Long.MAX_VALUE for unreachable)
+     * @param previous output array of at least V predecessors (-1 for none), or null if not needed
+     * @param workspace the workspace to run the search in
+     */
+    public static void findShortestPathsLong(CsrGraph graph, int source, long[] distances, int[] previous,
+                                             ShortestPathWorkspace workspace) {
+        // Validate source vertex
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        
+        int n = graph.getNumVertices();
+        Arrays.fill(distances, 0, n, Long.MAX_VALUE);
+        if (previous != null) {
+            Arrays.fill(previous, 0, n, -1);
+        }
+        workspace.reset(n);
+        
+        IndexedMinHeap heap = workspace.heap;
+        distances[source] = 0;
+        heap.insertOrDecrease(source, 0);
+        
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            workspace.settle(vertex);
+            
+            long distance = distances[vertex];
+            for (int e = graph.offsets[vertex], end = graph.offsets[vertex + 1]; e < end; e++) {
+                int neighbor = graph.targets[e];
+                if (workspace.isSettled(neighbor)) {
+                    continue;
+                }
+                
+                long newDistance = distance + graph.weights[e];
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = newDistance;
+                    if (previous != null) {
+                        previous[neighbor] = vertex;
+                    }
+                    heap.insertOrDecrease(neighbor, newDistance);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex with Dial's algorithm: Dijkstra with a
+     * cyclic array of maxWeight + 1 buckets instead of a binary heap.
+     * 
+     * Every queue operation is O(1), and the queue scans each distance value at most once, so
+     * the running time is O(V + E + D) where D <= (V - 1) * maxWeight is the largest finite
+     * distance. This beats the O((V + E) log V) heap version when weights are small integers.
+     * 
+     * @param graph the CSR graph to find shortest paths in; weights must be non-negative
+     * @param source the source vertex
+     * @return an array of distances indexed by vertex (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] findShortestPathsDial(CsrGraph graph, int source) {
+        // Validate source vertex
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        
+        int n = graph.getNumVertices();
+        int[] distances = new int[n];
+        boolean[] processed = new boolean[n];
+        BucketQueue queue = new BucketQueue(n, graph.getMaxWeight());
+        
+        Arrays.fill(distances, Integer.MAX_VALUE);
+        distances[source] = 0;
+        queue.insertOrDecrease(source, 0);
+        
+        while (!queue.isEmpty()) {
+            int vertex = queue.poll();
+            processed[vertex] = true;
+            
+            for (int e = graph.offsets[vertex], end = graph.offsets[vertex + 1]; e < end; e++) {
+                int neighbor = graph.targets[e];
+                if (processed[neighbor]) {
+                    continue;
+                }
+                
+                int newDistance = distances[vertex] + graph.weights[e];
+                if (newDistance < distances[neighbor]) {
+                    distances[neighbor] = newDistance;
+                    queue.insertOrDecrease(neighbor, newDistance);
+                }
+            }
+        }
+        
+        return distances;
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex, using Dial's bucket queue when the largest
+     * edge weight is small and the indexed binary heap otherwise.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @return an array of distances indexed by vertex (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] findShortestPathsAuto(CsrGraph graph, int source) {
+        if (graph.getMaxWeight() <= DIAL_MAX_WEIGHT) {
+            return findShortestPathsDial(graph, source);
+        }
+        return findShortestPathsIndexed(graph, source);
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex into a reusable workspace.
+     * Read the results with {@link ShortestPathWorkspace#getDistance(int)} and
+     * {@link ShortestPathWorkspace#getPrevious(int)} until the workspace is used again.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param source the source vertex
+     * @param workspace the workspace to run the search in
+     */
+    public static void findShortestPaths(CsrGraph graph, int source, ShortestPathWorkspace workspace) {
+        // Validate source vertex
+        if (source < 0 || source >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        
+        runDijkstra(graph, source, -1, workspace, null, null);
+    }
+    
+    /**
+     * Finds the shortest path between two vertices using a reusable workspace.
+     * 
+     * @param graph the CSR graph to find shortest path in
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param workspace the workspace to run the search in
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPath(CsrGraph graph, int source, int destination,
+                                                 ShortestPathWorkspace workspace) {
+        // Validate vertices
+        if (source < 0 || source >= graph.getNumVertices() || destination < 0 || destination >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        
+        runDijkstra(graph, source, destination, workspace, null, null);
+        return buildPath(workspace, destination);
+    }
+    
+    /**
+     * Finds the shortest path between two vertices while ignoring some vertices and edges,
+     * without copying the graph. Used by algorithms such as Yen's k-shortest paths.
+     * 
+     * @param graph the CSR graph to find shortest path in
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param workspace the workspace to run the search in
+     * @param blockedVertices vertices the path may not enter (indexed by vertex), or null
+     * @param blockedEdges CSR edge indices the path may not use, or null
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPath(CsrGraph graph, int source, int destination,
+                                                 ShortestPathWorkspace workspace, boolean[] blockedVertices,
+                                                 BitSet blockedEdges) {
+        // Validate vertices
+        if (source < 0 || source >= graph.getNumVertices() || destination < 0 || destination >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        
+        runDijkstra(graph, source, destination, workspace, blockedVertices, blockedEdges);
+        return buildPath(workspace, destination);
+    }
+    
+    /**
+     * Finds the shortest path between two vertices by searching from both ends at once.
+     * Builds the reversed graph and fresh workspaces on every call; use the other overload
+     * to reuse them across queries.
      * 
-     * @param graph the graph to find shortest paths in
+     * @param graph the CSR graph to find shortest path in
      * @param source the source vertex
-     * @return a map from vertex to its shortest distance from the source
+     * @param destination the destination vertex
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
      */
-    public static Map<Integer, Integer> findShortestPaths(Graph graph, int source) {
-        // Validate source vertex
-        if (source < 0 || source >= graph.getNumVertices()) {
-            throw new IllegalArgumentException("Invalid source vertex");
+    public static List<Integer> findShortestPathBidirectional(CsrGraph graph, int source, int destination) {
+        return findShortestPathBidirectional(graph, graph.reverse(), source, destination,
+                new ShortestPathWorkspace(graph.getNumVertices()), new ShortestPathWorkspace(graph.getNumVertices()));
+    }
+    
+    /**
+     * Bidirectional Dijkstra: a forward search from the source over the graph and a backward
+     * search from the destination over the reversed graph, always expanding the side whose
+     * queue minimum is smaller.
+     * 
+     * Whenever an edge reaches a vertex already reached by the other side, the combined distance
+     * is a candidate for the best path length mu. The search stops once the two queue minimums
+     * sum to at least mu, since no undiscovered path can be shorter. This typically settles about
+     * half the vertices of a one-sided search, which grows a ball of the full radius.
+     * 
+     * @param graph the CSR graph to find shortest path in
+     * @param reverse the reversed graph, from {@link CsrGraph#reverse()}
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param forward the workspace for the search from the source
+     * @param backward the workspace for the search from the destination
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPathBidirectional(CsrGraph graph, CsrGraph reverse, int source,
+                                                              int destination, ShortestPathWorkspace forward,
+                                                              ShortestPathWorkspace backward) {
+        // Validate vertices
+        if (source < 0 || source >= graph.getNumVertices() || destination < 0 || destination >= graph.getNumVertices()) {
+            throw new IllegalArgumentException("Invalid vertex");
         }
         
-        // Distance map: vertex -> shortest distance from source
-        Map<Integer, Integer> distances = new HashMap<>();
-        
-        // Priority queue to get the vertex with the smallest distance
-        PriorityQueue<Entry> pq = new PriorityQueue<>();
-        
-        // Set to keep track of vertices that have been processed
-        Set<Integer> processed = new HashSet<>();
-        
-        // Initialize distances for all vertices to infinity except the source
-        for (int i = 0; i < graph.getNumVertices(); i++) {
-            distances.put(i, i == source ? 0 : Integer.MAX_VALUE);
-        }
+        forward.reset(graph.getNumVertices());
+        backward.reset(graph.getNumVertices());
+        forward.relax(source, 0, -1);
+        backward.relax(destination, 0, -1);
         
-        // Add source to priority queue
-        pq.add(new Entry(source, 0));
+        long best = source == destination ? 0 : Long.MAX_VALUE;
+        int meet = source == destination ? source : -1;
         
-        // Process vertices
-        while (!pq.isEmpty()) {
-            // Get vertex with minimum distance
-            Entry current = pq.poll();
-            int vertex = current.vertex;
-            
-            // Skip if already processed or distance is infinity
-            if (processed.contains(vertex) || distances.get(vertex) == Integer.MAX_VALUE) {
-                continue;
+        while (!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            // Stopping criterion: no path through unsettled vertices can beat the best one
+            if (forward.heap.peekKey() + backward.heap.peekKey() >= best) {
+                break;
             }
             
-            // Mark as processed
-            processed.add(vertex);
+            boolean forwardStep = forward.heap.peekKey() <= backward.heap.peekKey();
+            CsrGraph side = forwardStep ? graph : reverse;
+            ShortestPathWorkspace self = forwardStep ? forward : backward;
+            ShortestPathWorkspace other = forwardStep ? backward : forward;
             
-            // Process all adjacent edges
-            for (Graph.Edge edge : graph.getAdjacentEdges(vertex)) {
-                int neighbor = edge.destination;
-                
-                // Skip if already processed
-                if (processed.contains(neighbor)) {
+            int vertex = self.heap.poll();
+            self.settle(vertex);
+            
+            int distance = self.distances[vertex];
+            for (int e = side.offsets[vertex], end = side.offsets[vertex + 1]; e < end; e++) {
+                int neighbor = side.targets[e];
+                if (self.isSettled(neighbor)) {
                     continue;
                 }
+                self.relax(neighbor, distance + side.weights[e], vertex);
                 
-                // Calculate new distance
-                int newDistance = distances.get(vertex) + edge.weight;
-                
-                // Update distance if it's shorter
-                if (newDistance < distances.get(neighbor)) {
-                    distances.put(neighbor, newDistance);
-                    pq.add(new Entry(neighbor, newDistance));
+                // Check whether this edge connects the two searches
+                int otherDistance = other.getDistance(neighbor);
+                if (otherDistance != Integer.MAX_VALUE) {
+                    long candidate = (long) self.distances[neighbor] + otherDistance;
+                    if (candidate < best) {
+                        best = candidate;
+                        meet = neighbor;
+                    }
                 }
             }
         }
         
-        return distances;
+        List<Integer> path = new ArrayList<>();
+        if (meet == -1) {
+            return path;
+        }
+        
+        // Forward half: source .. meet; backward predecessors point towards the destination
+        for (int vertex = meet; vertex != -1; vertex = forward.getPrevious(vertex)) {
+            path.add(vertex);
+        }
+        Collections.reverse(path);
+        for (int vertex = backward.getPrevious(meet); vertex != -1; vertex = backward.getPrevious(vertex)) {
+            path.add(vertex);
+        }
+        
+        return path;
     }
     
     /**
-     * Finds the shortest path from a source vertex to a specific destination vertex using Dijkstra's algorithm.
+     * Finds the shortest path between two vertices using A* search with a fresh workspace.
      * 
-     * @param graph the graph to find shortest path in
+     * @param graph the CSR graph to find shortest path in
      * @param source the source vertex
      * @param destination the destination vertex
+     * @param heuristic lower bound on the remaining distance from a vertex to the destination
      * @return a list of vertices representing the shortest path, or an empty list if no path exists
      */
-    public static List<Integer> findShortestPath(Graph graph, int source, int destination) {
+    public static List<Integer> findShortestPathAStar(CsrGraph graph, int source, int destination,
+                                                      IntToLongFunction heuristic) {
+        return findShortestPathAStar(graph, source, destination, heuristic,
+                new ShortestPathWorkspace(graph.getNumVertices()));
+    }
+    
+    /**
+     * A* search: Dijkstra's algorithm where each vertex is queued by its distance plus a heuristic
+     * estimate of the remaining distance, so the search is pulled towards the destination.
+     * 
+     * The heuristic must be consistent: h(destination) = 0 and h(u) <= weight(u, v) + h(v) for every
+     * edge. Then every settled vertex is final and the returned path is a shortest path. With a
+     * zero heuristic this is plain Dijkstra. After the call, {@link ShortestPathWorkspace#getSettledCount()}
+     * reports how many vertices were settled, for comparison with {@link #findShortestPath}.
+     * 
+     * @param graph the CSR graph to find shortest path in
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param heuristic lower bound on the remaining distance from a vertex to the destination
+     * @param workspace the workspace to run the search in
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public static List<Integer> findShortestPathAStar(CsrGraph graph, int source, int destination,
+                                                      IntToLongFunction heuristic, ShortestPathWorkspace workspace) {
         // Validate vertices
         if (source < 0 || source >= graph.getNumVertices() || destination < 0 || destination >= graph.getNumVertices()) {
             throw new IllegalArgumentException("Invalid vertex");
         }
         
-        // Distance map: vertex -> shortest distance from source
-        Map<Integer, Integer> distances = new HashMap<>();
+        workspace.reset(graph.getNumVertices());
+        workspace.relax(source, 0, -1, heuristic.applyAsLong(source));
         
-        // Previous map: vertex -> previous vertex in the shortest path
-        Map<Integer, Integer> previous = new HashMap<>();
+        IndexedMinHeap heap = workspace.heap;
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            workspace.settle(vertex);
+            
+            // If destination reached, break
+            if (vertex == destination) {
+                break;
+            }
+            
+            int distance = workspace.distances[vertex];
+            for (int e = graph.offsets[vertex], end = graph.offsets[vertex + 1]; e < end; e++) {
+                int neighbor = graph.targets[e];
+                if (workspace.isSettled(neighbor)) {
+                    continue;
+                }
+                
+                int newDistance = distance + graph.weights[e];
+                if (newDistance < workspace.getDistance(neighbor)) {
+                    workspace.relax(neighbor, newDistance, vertex, newDistance + heuristic.applyAsLong(neighbor));
+                }
+            }
+        }
         
-        // Priority queue to get the vertex with the smallest distance
-        PriorityQueue<Entry> pq = new PriorityQueue<>();
+        return buildPath(workspace, destination);
+    }
+    
+    /**
+     * Creates an A* heuristic from planar coordinates: the straight-line distance to the destination
+     * times the smallest edge weight per unit of length found in the graph.
+     * 
+     * @param x the x coordinate of each vertex
+     * @param y the y coordinate of each vertex
+     * @param destination the destination vertex
+     * @param weightPerUnit a lower bound on edge weight divided by edge length
+     * @return a consistent heuristic for the destination
+     */
+    public static IntToLongFunction euclideanHeuristic(double[] x, double[] y, int destination, double weightPerUnit) {
+        double targetX = x[destination];
+        double targetY = y[destination];
+        return vertex -> (long) Math.floor(Math.hypot(x[vertex] - targetX, y[vertex] - targetY) * weightPerUnit);
+    }
+    
+    /**
+     * Creates an A* heuristic from latitude/longitude coordinates (in degrees) using the
+     * great-circle (haversine) distance to the destination.
+     * 
+     * @param latitude the latitude of each vertex
+     * @param longitude the longitude of each vertex
+     * @param destination the destination vertex
+     * @param weightPerMeter a lower bound on edge weight divided by edge length in meters
+     * @return a consistent heuristic for the destination
+     */
+    public static IntToLongFunction haversineHeuristic(double[] latitude, double[] longitude, int destination,
+                                                       double weightPerMeter) {
+        final double earthRadiusMeters = 6_371_000.0;
+        double targetLat = Math.toRadians(latitude[destination]);
+        double targetLon = Math.toRadians(longitude[destination]);
+        return vertex -> {
+            double lat = Math.toRadians(latitude[vertex]);
+            double lon = Math.toRadians(longitude[vertex]);
+            double sinLat = Math.sin((targetLat - lat) / 2);
+            double sinLon = Math.sin((targetLon - lon) / 2);
+            double a = sinLat * sinLat + Math.cos(lat) * Math.cos(targetLat) * sinLon * sinLon;
+            double meters = 2 * earthRadiusMeters * Math.asin(Math.min(1.0, Math.sqrt(a)));
+            return (long) Math.floor(meters * weightPerMeter);
+        };
+    }
+    
+    /**
+     * Computes shortest distances from every source to every target.
+     * 
+     * @param graph the graph to find shortest paths in
+     * @param sources the source vertices (rows)
+     * @param targets the target vertices (columns)
+     * @return a row-major matrix where entry [i * targets.length + j] is the distance from
+     *         sources[i] to targets[j] (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] distanceMatrix(Graph graph, int[] sources, int[] targets) {
+        return distanceMatrix(graph.freeze(), sources, targets);
+    }
+    
+    /**
+     * Computes shortest distances from every source to every target on a CSR graph.
+     * 
+     * The sources are split into one chunk per worker of the common fork-join pool, and each
+     * chunk runs its searches in parallel with the others, reusing one workspace allocated for
+     * this call (so nothing stays behind in the pool's threads). Every search stops as soon as
+     * all targets are settled instead of exploring the whole graph.
+     * 
+     * @param graph the CSR graph to find shortest paths in
+     * @param sources the source vertices (rows)
+     * @param targets the target vertices (columns)
+     * @return a row-major matrix where entry [i * targets.length + j] is the distance from
+     *         sources[i] to targets[j] (Integer.MAX_VALUE for unreachable)
+     */
+    public static int[] distanceMatrix(CsrGraph graph, int[] sources, int[] targets) {
+        int n = graph.getNumVertices();
         
-        // Set to keep track of vertices that have been processed
-        Set<Integer> processed = new HashSet<>();
+        // Validate vertices and mark the distinct targets
+        boolean[] isTarget = new boolean[n];
+        int distinctTargets = 0;
+        for (int target : targets) {
+            if (target < 0 || target >= n) {
+                throw new IllegalArgumentException("Invalid vertex");
+            }
+            if (!isTarget[target]) {
+                isTarget[target] = true;
+                distinctTargets++;
+            }
+        }
+        for (int source : sources) {
+            if (source < 0 || source >= n) {
+                throw new IllegalArgumentException("Invalid vertex");
+            }
+        }
         
-        // Initialize distances for all vertices to infinity except the source
-        for (int i = 0; i < graph.getNumVertices(); i++) {
-            distances.put(i, i == source ? 0 : Integer.MAX_VALUE);
-            previous.put(i, -1); // -1 indicates no previous vertex
+        int[] matrix = new int[sources.length * targets.length];
+        if (matrix.length == 0) {
+            return matrix;
         }
+        int targetCount = distinctTargets;
+        // Rows are dealt out round-robin so the chunks get a similar mix of searches
+        int chunks = Math.min(sources.length, ForkJoinPool.getCommonPoolParallelism() + 1);
         
-        // Add source to priority queue
-        pq.add(new Entry(source, 0));
+        IntStream.range(0, chunks).parallel().forEach(chunk -> {
+            ShortestPathWorkspace workspace = new ShortestPathWorkspace(n);
+            for (int row = chunk; row < sources.length; row += chunks) {
+                runDijkstraToTargets(graph, sources[row], isTarget, targetCount, workspace);
+                for (int column = 0; column < targets.length; column++) {
+                    matrix[row * targets.length + column] = workspace.getDistance(targets[column]);
+                }
+            }
+        });
         
-        // Process vertices
-        while (!pq.isEmpty()) {
-            // Get vertex with minimum distance
-            Entry current = pq.poll();
-            int vertex = current.vertex;
+        return matrix;
+    }
+    
+    /**
+     * Dijkstra's algorithm that stops once a given number of marked target vertices are settled.
+     * 
+     * @param graph the CSR graph
+     * @param source the source vertex
+     * @param isTarget marks the target vertices
+     * @param targetCount the number of marked vertices
+     * @param workspace the workspace holding distances, predecessors and the heap
+     */
+    private static void runDijkstraToTargets(CsrGraph graph, int source, boolean[] isTarget, int targetCount,
+                                             ShortestPathWorkspace workspace) {
+        workspace.reset(graph.getNumVertices());
+        workspace.relax(source, 0, -1);
+        
+        int remaining = targetCount;
+        IndexedMinHeap heap = workspace.heap;
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            workspace.settle(vertex);
             
-            // If destination reached, break
-            if (vertex == destination) {
+            // Stop once every target has its final distance
+            if (isTarget[vertex] && --remaining == 0) {
                 break;
             }
             
-            // Skip if already processed or distance is infinity
-            if (processed.contains(vertex) || distances.get(vertex) == Integer.MAX_VALUE) {
-                continue;
+            int distance = workspace.distances[vertex];
+            for (int e = graph.offsets[vertex], end = graph.offsets[vertex + 1]; e < end; e++) {
+                int neighbor = graph.targets[e];
+                if (!workspace.isSettled(neighbor)) {
+                    workspace.relax(neighbor, distance + graph.weights[e], vertex);
+                }
             }
+        }
+    }
+    
+    /**
+     * Dijkstra's algorithm over CSR edges with an indexed heap and workspace state.
+     * 
+     * @param graph the CSR edges, in-heap or mapped
+     * @param source the source vertex
+     * @param destination vertex to stop at, or -1 to compute all distances
+     * @param workspace the workspace holding distances, predecessors and the heap
+     * @param blockedVertices vertices never to enter, or null
+     * @param blockedEdges edge indices never to use, or null
+     */
+    static void runDijkstra(CsrEdges graph, int source, int destination, ShortestPathWorkspace workspace,
+                            boolean[] blockedVertices, BitSet blockedEdges) {
+        workspace.reset(graph.getNumVertices());
+        workspace.relax(source, 0, -1);
+        
+        IndexedMinHeap heap = workspace.heap;
+        while (!heap.isEmpty()) {
+            int vertex = heap.poll();
+            workspace.settle(vertex);
             
-            // Mark as processed
-            processed.add(vertex);
+            // If destination reached, break
+            if (vertex == destination) {
+                break;
+            }
             
-            // Process all adjacent edges
-            for (Graph.Edge edge : graph.getAdjacentEdges(vertex)) {
-                int neighbor = edge.destination;
-                
-                // Skip if already processed
-                if (processed.contains(neighbor)) {
+            int distance = workspace.distances[vertex];
+            for (int e = graph.edgeStart(vertex), end = graph.edgeEnd(vertex); e < end; e++) {
+                int neighbor = graph.target(e);
+                if (workspace.isSettled(neighbor)
+                        || (blockedVertices != null && blockedVertices[neighbor])
+                        || (blockedEdges != null && blockedEdges.get(e))) {
                     continue;
                 }
-                
-                // Calculate new distance
-                int newDistance = distances.get(vertex) + edge.weight;
-                
-                // Update distance if it's shorter
-                if (newDistance < distances.get(neighbor)) {
-                    distances.put(neighbor, newDistance);
-                    previous.put(neighbor, vertex);
-                    pq.add(new Entry(neighbor, newDistance));
-                }
+                workspace.relax(neighbor, distance + graph.weight(e), vertex);
             }
         }
-        
-        // Reconstruct the path
+    }
+    
+    /**
+     * Reconstructs the path to a destination from the predecessors in a workspace.
+     * 
+     * @param workspace the workspace of a finished search
+     * @param destination the destination vertex
+     * @return the path from the source to the destination, or an empty list if unreachable
+     */
+    static List<Integer> buildPath(ShortestPathWorkspace workspace, int destination) {
         List<Integer> path = new ArrayList<>();
         
         // If no path exists
-        if (distances.get(destination) == Integer.MAX_VALUE) {
+        if (workspace.getDistance(destination) == Integer.MAX_VALUE) {
             return path;
         }
         
         // Trace back from destination to source
-        for (int vertex = destination; vertex != -1; vertex = previous.get(vertex)) {
-            path.add(0, vertex);
+        for (int vertex = destination; vertex != -1; vertex = workspace.getPrevious(vertex)) {
+            path.add(vertex);
         }
+        Collections.reverse(path);
         
         return path;
     }
     
+    
     /**
      * Main method with examples on how to use Dijkstra's Algorithm
      */
@@ -348,5 +1636,191 @@ public class DijkstraAlgorithm {
             }
         }
         System.out.println();
+        
+        // Example of distances that overflow int: a chain of 3 edges of 1,000,000,000 each
+        Graph longChain = new Graph(4, true);
+        longChain.addEdge(0, 1, 1_000_000_000);
+        longChain.addEdge(1, 2, 1_000_000_000);
+        longChain.addEdge(2, 3, 1_000_000_000);
+        
+        System.out.println("\nDistance to vertex 3 with int distances: " + findShortestPaths(longChain, 0).get(3));
+        System.out.println("Distance to vertex 3 with long distances: " + findShortestPathsLong(longChain, 0)[3]);
+        
+        // Example with a frozen CSR graph
+        CsrGraph csrGraph = graph.freeze();
+        System.out.println("\nCSR shortest path from 0 to 5: " + findShortestPath(csrGraph, 0, 5));
+        System.out.println("Bidirectional shortest path from 0 to 5: " + findShortestPathBidirectional(csrGraph, 0, 5));
+        
+        // Performance comparison between the adjacency list and the CSR graph
+        Graph largeGraph = generateRandomGraph(200_000, 1_000_000, new Random(42));
+        CsrGraph largeCsr = largeGraph.freeze();
+        
+        long startTime = System.currentTimeMillis();
+        Map<Integer, Integer> listDistances = findShortestPaths(largeGraph, 0);
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("\nPerformance test (200,000 vertices, 1,000,000 edges):");
+        System.out.println("Adjacency list query took " + (endTime - startTime) + "ms");
+        
+        startTime = System.currentTimeMillis();
+        Map<Integer, Integer> csrDistances = findShortestPaths(largeCsr, 0);
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("CSR query took " + (endTime - startTime) + "ms");
+        System.out.println("Results equal: " + listDistances.equals(csrDistances));
+        System.out.println("CSR bytes per edge: " + (double) largeCsr.estimatedSizeInBytes() / largeCsr.getNumEdges());
+        
+        startTime = System.currentTimeMillis();
+        int[] indexedDistances = findShortestPathsIndexed(largeCsr, 0);
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("CSR query with indexed heap took " + (endTime - startTime) + "ms");
+        boolean indexedEqual = true;
+        for (int i = 0; i < indexedDistances.length; i++) {
+            indexedEqual &= indexedDistances[i] == csrDistances.get(i);
+        }
+        System.out.println("Results equal: " + indexedEqual);
+        
+        startTime = System.currentTimeMillis();
+        int[] dialDistances = findShortestPathsDial(largeCsr, 0);
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("CSR query with Dial's buckets (weights 1..100) took " + (endTime - startTime) + "ms");
+        System.out.println("Results equal: " + Arrays.equals(indexedDistances, dialDistances));
+        
+        // Repeated point-to-point queries, allocating per query versus reusing one workspace
+        int queries = 100;
+        Random queryRandom = new Random(7);
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            findShortestPath(largeCsr, queryRandom.nextInt(200_000), queryRandom.nextInt(200_000));
+        }
+        endTime = System.currentTimeMillis();
+        
+        System.out.println(queries + " point-to-point queries with fresh state took " + (endTime - startTime) + "ms");
+        
+        ShortestPathWorkspace workspace = new ShortestPathWorkspace(largeCsr.getNumVertices());
+        queryRandom = new Random(7);
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            findShortestPath(largeCsr, queryRandom.nextInt(200_000), queryRandom.nextInt(200_000), workspace);
+        }
+        endTime = System.currentTimeMillis();
+        
+        System.out.println(queries + " point-to-point queries with a reused workspace took " + (endTime - startTime) + "ms");
+        
+        // Bidirectional search settles fewer vertices for the same queries
+        CsrGraph largeReverse = largeCsr.reverse();
+        ShortestPathWorkspace backward = new ShortestPathWorkspace(largeCsr.getNumVertices());
+        long oneSidedSettled = 0;
+        long twoSidedSettled = 0;
+        boolean sameLengths = true;
+        queryRandom = new Random(7);
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < queries; i++) {
+            int from = queryRandom.nextInt(200_000);
+            int to = queryRandom.nextInt(200_000);
+            findShortestPath(largeCsr, from, to, workspace);
+            oneSidedSettled += workspace.getSettledCount();
+            int expected = workspace.getDistance(to);
+            
+            List<Integer> bidirectionalPath = findShortestPathBidirectional(largeCsr, largeReverse, from, to, workspace, backward);
+            twoSidedSettled += workspace.getSettledCount() + backward.getSettledCount();
+            sameLengths &= expected == pathLength(largeCsr, bidirectionalPath);
+        }
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("Settled vertices, one-sided: " + oneSidedSettled + ", bidirectional: " + twoSidedSettled
+                + " (same path lengths: " + sameLengths + ")");
+        
+        // A* on a grid with coordinates: each edge has length 1 and weight 10..14
+        int side = 300;
+        Graph grid = new Graph(side * side, false);
+        double[] x = new double[side * side];
+        double[] y = new double[side * side];
+        Random gridRandom = new Random(3);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                x[vertex] = col;
+                y[vertex] = row;
+                if (col + 1 < side) {
+                    grid.addEdge(vertex, vertex + 1, 10 + gridRandom.nextInt(5));
+                }
+                if (row + 1 < side) {
+                    grid.addEdge(vertex, vertex + side, 10 + gridRandom.nextInt(5));
+                }
+            }
+        }
+        CsrGraph gridCsr = grid.freeze();
+        int gridSource = 10 * side + 10;
+        int gridTarget = 200 * side + 250;
+        
+        findShortestPath(gridCsr, gridSource, gridTarget, workspace);
+        int dijkstraSettled = workspace.getSettledCount();
+        int dijkstraDistance = workspace.getDistance(gridTarget);
+        findShortestPathAStar(gridCsr, gridSource, gridTarget, euclideanHeuristic(x, y, gridTarget, 10.0), workspace);
+        
+        System.out.println("\nGrid " + side + "x" + side + ", settled vertices, Dijkstra: " + dijkstraSettled
+                + ", A*: " + workspace.getSettledCount()
+                + " (same distance: " + (dijkstraDistance == workspace.getDistance(gridTarget)) + ")");
+        
+        // Distance matrix between 100 sources and 100 targets on the grid
+        int[] matrixSources = new int[100];
+        int[] matrixTargets = new int[100];
+        for (int i = 0; i < 100; i++) {
+            matrixSources[i] = gridRandom.nextInt(side * side);
+            matrixTargets[i] = gridRandom.nextInt(side * side);
+        }
+        
+        startTime = System.currentTimeMillis();
+        int[] expectedMatrix = new int[100 * 100];
+        for (int i = 0; i < 100; i++) {
+            Map<Integer, Integer> rowDistances = findShortestPaths(grid, matrixSources[i]);
+            for (int j = 0; j < 100; j++) {
+                expectedMatrix[i * 100 + j] = rowDistances.get(matrixTargets[j]);
+            }
+        }
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("\n100x100 distance table with separate findShortestPaths calls took " + (endTime - startTime) + "ms");
+        
+        startTime = System.currentTimeMillis();
+        int[] matrix = distanceMatrix(gridCsr, matrixSources, matrixTargets);
+        endTime = System.currentTimeMillis();
+        
+        System.out.println("100x100 distanceMatrix took " + (endTime - startTime) + "ms (same distances: "
+                + Arrays.equals(expectedMatrix, matrix) + ")");
+    }
+    
+    /**
+     * Helper method to sum the edge weights along a path (Integer.MAX_VALUE for an empty path)
+     */
+    private static int pathLength(CsrGraph graph, List<Integer> path) {
+        if (path.isEmpty()) {
+            return Integer.MAX_VALUE;
+        }
+        int length = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            int best = Integer.MAX_VALUE;
+            for (int e = graph.edgeStart(path.get(i)); e < graph.edgeEnd(path.get(i)); e++) {
+                if (graph.target(e) == path.get(i + 1)) {
+                    best = Math.min(best, graph.weight(e));
+                }
+            }
+            length += best;
+        }
+        return length;
+    }
+    
+    /**
+     * Helper method to generate a random directed graph for testing
+     */
+    private static Graph generateRandomGraph(int numVertices, int numEdges, Random random) {
+        Graph graph = new Graph(numVertices, true);
+        for (int i = 0; i < numEdges; i++) {
+            graph.addEdge(random.nextInt(numVertices), random.nextInt(numVertices), 1 + random.nextInt(100));
+        }
+        return graph;
     }
 }
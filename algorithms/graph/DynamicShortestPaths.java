@@ -0,0 +1,338 @@
+import java.util.*;
+
+/**
+ * Single-source shortest paths that stay up to date while edges are inserted, deleted or
+ * change weight, in the style of Ramalingam and Reps.
+ * 
+ * The structure keeps the distance and shortest-path-tree parent of every vertex and repairs
+ * only what an update can affect:
+ * - Weight decrease / insertion of u -> v: if it shortens the path to v, a Dijkstra search
+ *   starting at v (seeded with its new distance) propagates the improvement
+ * - Weight increase / deletion of a tree edge u -> v: only the subtree of v in the shortest
+ *   path tree can get longer. Those vertices take their best distance through an in-edge from
+ *   outside the subtree, and a Dijkstra search restricted to the subtree settles the rest.
+ *   Updates to non-tree edges need no work at all.
+ * 
+ * Time Complexity: O(|delta| log |delta|) per update, where |delta| counts the affected vertices
+ * and their edges, versus O((V + E) log V) for recomputing from scratch
+ * Space Complexity: O(V + E) for distances, parents and the in-edge lists
+ */
+public class DynamicShortestPaths {
+    
+    private final DijkstraAlgorithm.Graph graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+    private final List<List<Integer>> predecessors; // in-neighbors, one entry per edge
+    
+    // Repair state, reused across updates
+    private final DijkstraAlgorithm.IndexedMinHeap heap;
+    private final int[] affectedEpoch;
+    private int epoch;
+    
+    /**
+     * Computes the initial shortest paths of a graph. Later changes must go through this
+     * object (not the graph directly) so the distances stay consistent.
+     * 
+     * @param graph the graph to track
+     * @param source the source vertex
+     */
+    public DynamicShortestPaths(DijkstraAlgorithm.Graph graph, int source) {
+        int n = graph.getNumVertices();
+        this.graph = graph;
+        this.source = source;
+        this.distances = new int[n];
+        this.parents = new int[n];
+        this.heap = new DijkstraAlgorithm.IndexedMinHeap(n);
+        this.affectedEpoch = new int[n];
+        
+        predecessors = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            predecessors.add(new ArrayList<>());
+        }
+        for (int u = 0; u < n; u++) {
+            for (DijkstraAlgorithm.Graph.Edge edge : graph.getAdjacentEdges(u)) {
+                predecessors.get(edge.destination).add(u);
+            }
+        }
+        
+        recompute();
+    }
+    
+    /**
+     * Recomputes all distances from scratch with Dijkstra's algorithm.
+     */
+    public void recompute() {
+        DijkstraAlgorithm.ShortestPathWorkspace workspace = new DijkstraAlgorithm.ShortestPathWorkspace(distances.length);
+        DijkstraAlgorithm.findShortestPaths(graph.freeze(), source, workspace);
+        for (int v = 0; v < distances.length; v++) {
+            distances[v] = workspace.getDistance(v);
+            parents[v] = workspace.getPrevious(v);
+        }
+    }
+    
+    /**
+     * Gets the current shortest distance from the source.
+     * 
+     * @param vertex the vertex
+     * @return the distance, or Integer.MAX_VALUE if unreachable
+     */
+    public int getDistance(int vertex) {
+        return distances[vertex];
+    }
+    
+    /**
+     * Gets the current shortest path from the source.
+     * 
+     * @param destination the destination vertex
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public List<Integer> getPath(int destination) {
+        List<Integer> path = new ArrayList<>();
+        if (distances[destination] == Integer.MAX_VALUE) {
+            return path;
+        }
+        for (int vertex = destination; vertex != -1; vertex = parents[vertex]) {
+            path.add(vertex);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+    
+    /**
+     * Inserts an edge and repairs the shortest paths.
+     * 
+     * @param u the source vertex
+     * @param v the destination vertex
+     * @param weight the weight of the edge
+     */
+    public void addEdge(int u, int v, int weight) {
+        graph.addEdge(u, v, weight);
+        predecessors.get(v).add(u);
+        repairDecrease(u, v, weight);
+        if (!graph.isDirected() && u != v) {
+            predecessors.get(u).add(v);
+            repairDecrease(v, u, weight);
+        }
+    }
+    
+    /**
+     * Removes an edge and repairs the shortest paths.
+     * 
+     * @param u the source vertex
+     * @param v the destination vertex
+     * @return true if the edge existed
+     */
+    public boolean removeEdge(int u, int v) {
+        if (!graph.removeEdge(u, v)) {
+            return false;
+        }
+        predecessors.get(v).remove(Integer.valueOf(u));
+        repairIncrease(u, v);
+        if (!graph.isDirected() && u != v) {
+            predecessors.get(u).remove(Integer.valueOf(v));
+            repairIncrease(v, u);
+        }
+        return true;
+    }
+    
+    /**
+     * Changes the weight of an edge and repairs the shortest paths.
+     * 
+     * @param u the source vertex
+     * @param v the destination vertex
+     * @param weight the new weight
+     * @return true if the edge exists
+     */
+    public boolean updateEdgeWeight(int u, int v, int weight) {
+        int oldWeight = edgeWeight(u, v);
+        if (!graph.updateEdgeWeight(u, v, weight)) {
+            return false;
+        }
+        
+        if (weight < oldWeight) {
+            repairDecrease(u, v, weight);
+            if (!graph.isDirected()) {
+                repairDecrease(v, u, weight);
+            }
+        } else if (weight > oldWeight) {
+            repairIncrease(u, v);
+            if (!graph.isDirected()) {
+                repairIncrease(v, u);
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Propagates the improvement from a cheaper edge u -> v with a Dijkstra search seeded at v.
+     */
+    private void repairDecrease(int u, int v, int weight) {
+        if (distances[u] == Integer.MAX_VALUE || distances[u] + weight >= distances[v]) {
+            return;
+        }
+        distances[v] = distances[u] + weight;
+        parents[v] = u;
+        
+        heap.clear();
+        heap.insertOrDecrease(v, distances[v]);
+        propagate(false);
+    }
+    
+    /**
+     * Repairs the subtree below v after the edge u -> v got more expensive or was removed.
+     */
+    private void repairIncrease(int u, int v) {
+        if (parents[v] != u) {
+            return; // not a tree edge, so no shortest path used it
+        }
+        int remaining = edgeWeight(u, v);
+        if (remaining != Integer.MAX_VALUE && distances[u] + remaining == distances[v]) {
+            return; // a parallel edge keeps the old distance
+        }
+        
+        // Collect the subtree of v: every vertex whose tree path runs through u -> v
+        epoch++;
+        List<Integer> affected = new ArrayList<>();
+        affected.add(v);
+        affectedEpoch[v] = epoch;
+        for (int i = 0; i < affected.size(); i++) {
+            int x = affected.get(i);
+            for (DijkstraAlgorithm.Graph.Edge edge : graph.getAdjacentEdges(x)) {
+                int child = edge.destination;
+                if (parents[child] == x && affectedEpoch[child] != epoch) {
+                    affectedEpoch[child] = epoch;
+                    affected.add(child);
+                }
+            }
+        }
+        
+        // Seed each affected vertex with its best in-edge from outside the subtree
+        heap.clear();
+        for (int x : affected) {
+            distances[x] = Integer.MAX_VALUE;
+            parents[x] = -1;
+        }
+        for (int x : affected) {
+            for (int p : predecessors.get(x)) {
+                if (affectedEpoch[p] == epoch || distances[p] == Integer.MAX_VALUE) {
+                    continue;
+                }
+                int candidate = distances[p] + edgeWeight(p, x);
+                if (candidate < distances[x]) {
+                    distances[x] = candidate;
+                    parents[x] = p;
+                }
+            }
+            if (distances[x] != Integer.MAX_VALUE) {
+                heap.insertOrDecrease(x, distances[x]);
+            }
+        }
+        
+        propagate(true);
+    }
+    
+    /**
+     * Runs Dijkstra's algorithm from the vertices in the heap, optionally only inside the affected set.
+     */
+    private void propagate(boolean affectedOnly) {
+        while (!heap.isEmpty()) {
+            int x = heap.poll();
+            for (DijkstraAlgorithm.Graph.Edge edge : graph.getAdjacentEdges(x)) {
+                int w = edge.destination;
+                if (affectedOnly && affectedEpoch[w] != epoch) {
+                    continue;
+                }
+                int candidate = distances[x] + edge.weight;
+                if (candidate < distances[w]) {
+                    distances[w] = candidate;
+                    parents[w] = x;
+                    heap.insertOrDecrease(w, candidate);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Gets the smallest weight among the edges u -> v, or Integer.MAX_VALUE if there is none.
+     */
+    private int edgeWeight(int u, int v) {
+        int weight = Integer.MAX_VALUE;
+        for (DijkstraAlgorithm.Graph.Edge edge : graph.getAdjacentEdges(u)) {
+            if (edge.destination == v) {
+                weight = Math.min(weight, edge.weight);
+            }
+        }
+        return weight;
+    }
+    
+    /**
+     * Example usage and benchmark of incremental repair against full recomputation
+     */
+    public static void main(String[] args) {
+        // Small example: same graph as in DijkstraAlgorithm
+        DijkstraAlgorithm.Graph graph = new DijkstraAlgorithm.Graph(6, true);
+        graph.addEdge(0, 1, 2);
+        graph.addEdge(0, 2, 4);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 7);
+        graph.addEdge(2, 4, 3);
+        graph.addEdge(3, 5, 1);
+        graph.addEdge(4, 3, 2);
+        graph.addEdge(4, 5, 5);
+        
+        DynamicShortestPaths paths = new DynamicShortestPaths(graph, 0);
+        System.out.println("Path to 5: " + paths.getPath(5) + ", distance " + paths.getDistance(5));
+        paths.updateEdgeWeight(4, 3, 10);
+        System.out.println("After 4 -> 3 becomes 10: " + paths.getPath(5) + ", distance " + paths.getDistance(5));
+        paths.removeEdge(4, 5);
+        System.out.println("After removing 4 -> 5: " + paths.getPath(5) + ", distance " + paths.getDistance(5));
+        paths.addEdge(0, 5, 3);
+        System.out.println("After adding 0 -> 5: " + paths.getPath(5) + ", distance " + paths.getDistance(5));
+        
+        // Road-like grid with traffic updates: random weight changes on random edges
+        int side = 300;
+        DijkstraAlgorithm.Graph grid = new DijkstraAlgorithm.Graph(side * side, false);
+        Random random = new Random(13);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                if (col + 1 < side) {
+                    grid.addEdge(vertex, vertex + 1, 1 + random.nextInt(100));
+                }
+                if (row + 1 < side) {
+                    grid.addEdge(vertex, vertex + side, 1 + random.nextInt(100));
+                }
+            }
+        }
+        DynamicShortestPaths dynamic = new DynamicShortestPaths(grid, 0);
+        
+        int updates = 2000;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < updates; i++) {
+            int vertex = random.nextInt(side * side - 1);
+            int neighbor = vertex % side + 1 < side ? vertex + 1 : vertex + side;
+            if (neighbor < side * side) {
+                dynamic.updateEdgeWeight(vertex, neighbor, 1 + random.nextInt(100));
+            }
+        }
+        long repairNanos = System.nanoTime() - startTime;
+        
+        int recomputes = 20;
+        startTime = System.nanoTime();
+        for (int i = 0; i < recomputes; i++) {
+            DijkstraAlgorithm.findShortestPathsIndexed(grid.freeze(), 0);
+        }
+        long recomputeNanos = System.nanoTime() - startTime;
+        
+        System.out.printf("%nAverage repair per update: %.3f ms%n", repairNanos / 1e6 / updates);
+        System.out.printf("Average full recomputation: %.3f ms%n", recomputeNanos / 1e6 / recomputes);
+        
+        int[] expected = DijkstraAlgorithm.findShortestPathsIndexed(grid.freeze(), 0);
+        boolean equal = true;
+        for (int v = 0; v < expected.length; v++) {
+            equal &= expected[v] == dynamic.getDistance(v);
+        }
+        System.out.println("Distances match a full recomputation: " + equal);
+    }
+}
@@ -0,0 +1,305 @@
+import java.util.*;
+
+/**
+ * Topological order that stays valid while edges are inserted, using the algorithm of
+ * Pearce and Kelly.
+ * 
+ * Every vertex has a position ord[v] in the current order. Inserting u -> v needs no work if
+ * u already comes before v. Otherwise only the "affected region" between ord[v] and ord[u]
+ * can change:
+ * 1. A forward DFS from v collects the vertices reachable from v with position < ord[u].
+ *    Reaching u itself means the edge would close a cycle, so it is rejected
+ * 2. A backward DFS from u collects the vertices that reach u with position > ord[v]
+ * 3. The positions of both sets are pooled, and the backward set takes the smallest ones
+ *    (in its existing relative order), followed by the forward set
+ * Vertices outside the two sets keep their positions.
+ * 
+ * Time Complexity: O(1) for order queries; O(|delta| log |delta|) per insertion, where |delta|
+ * counts the vertices and edges of the affected region, versus O(V + E) to re-sort
+ * Space Complexity: O(V + E) for the positions and the primitive edge lists
+ */
+public class DynamicTopologicalOrder {
+    
+    private final TopologicalSort graph;
+    private final int[] ord;        // position of each vertex
+    private final int[] vertexAt;   // vertex at each position
+    
+    // Out- and in-neighbors as growable int arrays, one entry per edge
+    private final int[][] successors;
+    private final int[] successorCount;
+    private final int[][] predecessors;
+    private final int[] predecessorCount;
+    
+    // Search state, reused across insertions
+    private final int[] visitedEpoch;
+    private int epoch;
+    private final int[] stack;
+    private final int[] found;      // forward set, then backward set (they never overlap)
+    private final int[] positions;
+    
+    /**
+     * Starts from the current edges of a graph. Later edges must go through this object
+     * (not the graph directly) so the order stays valid.
+     * 
+     * @param graph the acyclic graph to track
+     * @throws IllegalArgumentException if the graph already has a cycle
+     */
+    public DynamicTopologicalOrder(TopologicalSort graph) {
+        int n = graph.getNumVertices();
+        this.graph = graph;
+        this.ord = new int[n];
+        this.visitedEpoch = new int[n];
+        this.stack = new int[n];
+        this.found = new int[n];
+        this.positions = new int[n];
+        
+        vertexAt = graph.topologicalSort();
+        if (vertexAt == null) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+        for (int i = 0; i < n; i++) {
+            ord[vertexAt[i]] = i;
+        }
+        
+        successors = new int[n][];
+        successorCount = new int[n];
+        predecessorCount = new int[n];
+        for (int u = 0; u < n; u++) {
+            List<Integer> adjacent = graph.getAdjacentVertices(u);
+            successors[u] = new int[adjacent.size()];
+            for (int v : adjacent) {
+                successors[u][successorCount[u]++] = v;
+                predecessorCount[v]++;
+            }
+        }
+        predecessors = new int[n][];
+        for (int v = 0; v < n; v++) {
+            predecessors[v] = new int[predecessorCount[v]];
+            predecessorCount[v] = 0;
+        }
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < successorCount[u]; i++) {
+                int v = successors[u][i];
+                predecessors[v][predecessorCount[v]++] = u;
+            }
+        }
+    }
+    
+    /**
+     * Adds the edge u -> v if it keeps the graph acyclic, and updates the order.
+     * 
+     * @param u source vertex
+     * @param v destination vertex
+     * @return true if the edge was added, false if it would create a cycle
+     */
+    public boolean addEdge(int u, int v) {
+        // Validate vertices
+        if (u < 0 || u >= ord.length || v < 0 || v >= ord.length) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        if (u == v) {
+            return false;
+        }
+        
+        int lowerBound = ord[v];
+        int upperBound = ord[u];
+        if (lowerBound < upperBound) {
+            // Discover the affected region; a forward path from v back to u means a cycle
+            epoch++;
+            int forwardCount = forwardSearch(v, upperBound);
+            if (forwardCount < 0) {
+                return false;
+            }
+            int backwardCount = backwardSearch(u, lowerBound, forwardCount);
+            reorder(forwardCount, backwardCount);
+        }
+        
+        graph.addEdge(u, v);
+        append(successors, successorCount, u, v);
+        append(predecessors, predecessorCount, v, u);
+        return true;
+    }
+    
+    /**
+     * Gets the position of a vertex in the current order.
+     * 
+     * @param vertex the vertex
+     * @return its position, 0 for the first vertex
+     */
+    public int getPosition(int vertex) {
+        return ord[vertex];
+    }
+    
+    /**
+     * Checks whether u comes before v in the current order.
+     * 
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return true if u is ordered before v
+     */
+    public boolean precedes(int u, int v) {
+        return ord[u] < ord[v];
+    }
+    
+    /**
+     * Gets the current topological order.
+     * 
+     * @return array containing the topologically sorted vertices
+     */
+    public int[] getOrder() {
+        return vertexAt.clone();
+    }
+    
+    private static void append(int[][] lists, int[] counts, int list, int value) {
+        if (counts[list] == lists[list].length) {
+            lists[list] = Arrays.copyOf(lists[list], Math.max(4, counts[list] * 2));
+        }
+        lists[list][counts[list]++] = value;
+    }
+    
+    /**
+     * Collects the vertices reachable from start with position below upperBound into found,
+     * returning their number, or -1 if the vertex at upperBound is reachable.
+     */
+    private int forwardSearch(int start, int upperBound) {
+        int count = 0;
+        int top = 0;
+        stack[top++] = start;
+        visitedEpoch[start] = epoch;
+        while (top > 0) {
+            int x = stack[--top];
+            found[count++] = x;
+            for (int i = 0; i < successorCount[x]; i++) {
+                int w = successors[x][i];
+                if (ord[w] == upperBound) {
+                    return -1; // reached u: cycle
+                }
+                if (visitedEpoch[w] != epoch && ord[w] < upperBound) {
+                    visitedEpoch[w] = epoch;
+                    stack[top++] = w;
+                }
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Collects the vertices that reach start with position above lowerBound into found,
+     * starting at index from, and returns their number.
+     */
+    private int backwardSearch(int start, int lowerBound, int from) {
+        int count = from;
+        int top = 0;
+        stack[top++] = start;
+        visitedEpoch[start] = epoch;
+        while (top > 0) {
+            int x = stack[--top];
+            found[count++] = x;
+            for (int i = 0; i < predecessorCount[x]; i++) {
+                int w = predecessors[x][i];
+                if (visitedEpoch[w] != epoch && ord[w] > lowerBound) {
+                    visitedEpoch[w] = epoch;
+                    stack[top++] = w;
+                }
+            }
+        }
+        return count - from;
+    }
+    
+    /**
+     * Gives the pooled positions of both sets to the backward set first, then the forward set.
+     */
+    private void reorder(int forwardCount, int backwardCount) {
+        int total = forwardCount + backwardCount;
+        
+        // Positions are distinct, so sorting them sorts each set by position
+        for (int i = 0; i < total; i++) {
+            positions[i] = ord[found[i]];
+        }
+        Arrays.sort(positions, 0, forwardCount);
+        Arrays.sort(positions, forwardCount, total);
+        for (int i = 0; i < total; i++) {
+            found[i] = vertexAt[positions[i]];
+        }
+        Arrays.sort(positions, 0, total);
+        
+        int next = 0;
+        for (int i = forwardCount; i < total; i++) {
+            place(found[i], positions[next++]);
+        }
+        for (int i = 0; i < forwardCount; i++) {
+            place(found[i], positions[next++]);
+        }
+    }
+    
+    private void place(int vertex, int position) {
+        ord[vertex] = position;
+        vertexAt[position] = vertex;
+    }
+    
+    /**
+     * Example usage and benchmark against re-sorting after every insertion
+     */
+    public static void main(String[] args) {
+        // Course schedule from TopologicalSort, with prerequisites added one at a time
+        TopologicalSort courses = new TopologicalSort(5);
+        DynamicTopologicalOrder order = new DynamicTopologicalOrder(courses);
+        System.out.println("Add 3 -> 1: " + order.addEdge(3, 1) + ", order " + Arrays.toString(order.getOrder()));
+        System.out.println("Add 4 -> 3: " + order.addEdge(4, 3) + ", order " + Arrays.toString(order.getOrder()));
+        System.out.println("Add 1 -> 4: " + order.addEdge(1, 4) + " (would close a cycle)");
+        System.out.println("4 before 1: " + order.precedes(4, 1));
+        
+        // Build-like graph: each target depends on a few nearby later targets, then new
+        // dependencies arrive one at a time; those that would close a cycle are rejected
+        int n = 200_000;
+        TopologicalSort graph = new TopologicalSort(n);
+        Random random = new Random(6);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < 3; i++) {
+                int v = u + 1 + random.nextInt(50);
+                if (v < n) {
+                    graph.addEdge(u, v);
+                }
+            }
+        }
+        DynamicTopologicalOrder dynamic = new DynamicTopologicalOrder(graph);
+        
+        int insertions = 100_000;
+        int[] sources = new int[insertions];
+        int[] destinations = new int[insertions];
+        for (int i = 0; i < insertions; i++) {
+            int u = random.nextInt(n - 200);
+            int v = u + 1 + random.nextInt(200);
+            // One in ten goes backwards and usually closes a cycle
+            sources[i] = random.nextInt(10) == 0 ? v : u;
+            destinations[i] = sources[i] == u ? v : u;
+        }
+        
+        int accepted = 0;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < insertions; i++) {
+            if (dynamic.addEdge(sources[i], destinations[i])) {
+                accepted++;
+            }
+        }
+        long dynamicNanos = System.nanoTime() - startTime;
+        
+        int sorts = 10;
+        startTime = System.nanoTime();
+        for (int i = 0; i < sorts; i++) {
+            graph.topologicalSort();
+        }
+        long sortNanos = System.nanoTime() - startTime;
+        
+        boolean valid = true;
+        for (int u = 0; u < n; u++) {
+            for (int v : graph.getAdjacentVertices(u)) {
+                valid &= dynamic.precedes(u, v);
+            }
+        }
+        System.out.printf("%nAccepted %d of %d edges, average insertion: %.2f us%n",
+                accepted, insertions, dynamicNanos / 1e3 / insertions);
+        System.out.printf("One full topological sort: %.2f ms%n", sortNanos / 1e6 / sorts);
+        System.out.println("Order valid for every edge: " + valid);
+    }
+}
@@ -0,0 +1,399 @@
+import java.util.*;
+
+/**
+ * Minimum spanning forest that stays minimal while edges keep arriving.
+ * 
+ * By the cycle property, a new edge (u, v, w) changes the forest only if u and v are already
+ * connected and the heaviest edge on the tree path between them weighs more than w; that edge
+ * is then swapped out for the new one. If u and v are not connected the edge simply joins the
+ * forest. So each arriving edge needs one "maximum edge on path" query, a cut and a link.
+ * 
+ * The forest is kept in a link-cut tree (Sleator and Tarjan), which supports all three in
+ * O(log V) amortized. Each tree edge gets its own node between its two endpoints, so the
+ * maximum over a path's nodes is the maximum edge on it. Vertex nodes never win that maximum.
+ * 
+ * Time Complexity: O(log V) amortized per addEdge, instead of O(E log E) to rerun Kruskal
+ * Space Complexity: O(V) - only tree edges are stored
+ */
+public class IncrementalMST {
+    
+    private final int numVertices;
+    private int treeEdgeCount;
+    private long totalWeight;
+    
+    // Link-cut tree over nodes 0 .. numVertices-1 (vertices) and numVertices .. (edge nodes)
+    private int[] left, right, parent;
+    private boolean[] reversed;
+    private int[] maxNode;      // node with the heaviest key in the splay subtree
+    private long[] key;         // weight of an edge node, Long.MIN_VALUE for a vertex node
+    private int[] edgeSrc, edgeDest;
+    private int nodeCount;
+    private int[] freeNodes;    // stack of released edge nodes
+    private int freeCount;
+    private int[] stack;        // ancestors to push down before a splay
+    
+    /**
+     * Creates an empty forest.
+     * 
+     * @param numVertices the number of vertices
+     */
+    public IncrementalMST(int numVertices) {
+        this.numVertices = numVertices;
+        int capacity = 2 * numVertices + 1;
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        reversed = new boolean[capacity];
+        maxNode = new int[capacity];
+        key = new long[capacity];
+        edgeSrc = new int[capacity];
+        edgeDest = new int[capacity];
+        stack = new int[capacity];
+        freeNodes = new int[capacity];
+        for (int v = 0; v < numVertices; v++) {
+            initNode(v, Long.MIN_VALUE);
+        }
+        nodeCount = numVertices;
+    }
+    
+    /**
+     * Adds an edge and updates the forest.
+     * 
+     * @param u one endpoint
+     * @param v the other endpoint
+     * @param weight the weight of the edge
+     * @return true if the edge joined the forest (possibly replacing a heavier edge)
+     */
+    public boolean addEdge(int u, int v, int weight) {
+        // Validate vertices
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        if (u == v) {
+            return false;
+        }
+        
+        if (findRoot(u) == findRoot(v)) {
+            // Cycle: keep the forest unless the heaviest path edge is heavier (ties keep the old edge)
+            int heaviest = pathMax(u, v);
+            if (key[heaviest] <= weight) {
+                return false;
+            }
+            removeTreeEdge(heaviest);
+        }
+        
+        int e = allocateEdgeNode(u, v, weight);
+        link(u, e);
+        link(e, v);
+        treeEdgeCount++;
+        totalWeight += weight;
+        return true;
+    }
+    
+    /**
+     * Checks whether two vertices are connected by the forest.
+     * 
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return true if u and v are in the same tree
+     */
+    public boolean connected(int u, int v) {
+        // Validate vertices
+        if (u < 0 || u >= numVertices || v < 0 || v >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        return findRoot(u) == findRoot(v);
+    }
+    
+    /**
+     * Finds the heaviest forest edge on the path between two vertices.
+     * 
+     * @param u the first vertex
+     * @param v the second vertex
+     * @return the heaviest edge, or null if u and v are the same vertex or not connected
+     */
+    public KruskalMST.Edge maxEdgeOnPath(int u, int v) {
+        if (u == v || !connected(u, v)) {
+            return null;
+        }
+        int heaviest = pathMax(u, v);
+        return new KruskalMST.Edge(edgeSrc[heaviest], edgeDest[heaviest], (int) key[heaviest]);
+    }
+    
+    /**
+     * Gets the edges of the current forest.
+     * 
+     * @return the forest edges, sorted by weight
+     */
+    public List<KruskalMST.Edge> getEdges() {
+        List<KruskalMST.Edge> edges = new ArrayList<>(treeEdgeCount);
+        for (int node = numVertices; node < nodeCount; node++) {
+            if (edgeSrc[node] != -1) {
+                edges.add(new KruskalMST.Edge(edgeSrc[node], edgeDest[node], (int) key[node]));
+            }
+        }
+        Collections.sort(edges);
+        return edges;
+    }
+    
+    /**
+     * Gets the number of edges in the forest.
+     * 
+     * @return the number of edges
+     */
+    public int getNumEdges() {
+        return treeEdgeCount;
+    }
+    
+    /**
+     * Gets the total weight of the forest.
+     * 
+     * @return the sum of the forest's edge weights
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+    
+    private int allocateEdgeNode(int u, int v, int weight) {
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodeCount == left.length) {
+                grow(nodeCount * 2);
+            }
+            node = nodeCount++;
+        }
+        initNode(node, weight);
+        edgeSrc[node] = u;
+        edgeDest[node] = v;
+        return node;
+    }
+    
+    private void removeTreeEdge(int node) {
+        cut(edgeSrc[node], node);
+        cut(node, edgeDest[node]);
+        treeEdgeCount--;
+        totalWeight -= key[node];
+        edgeSrc[node] = -1;
+        freeNodes[freeCount++] = node;
+    }
+    
+    private void initNode(int node, long nodeKey) {
+        left[node] = right[node] = parent[node] = -1;
+        reversed[node] = false;
+        maxNode[node] = node;
+        key[node] = nodeKey;
+        edgeSrc[node] = -1;
+    }
+    
+    private void grow(int capacity) {
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        reversed = Arrays.copyOf(reversed, capacity);
+        maxNode = Arrays.copyOf(maxNode, capacity);
+        key = Arrays.copyOf(key, capacity);
+        edgeSrc = Arrays.copyOf(edgeSrc, capacity);
+        edgeDest = Arrays.copyOf(edgeDest, capacity);
+        stack = new int[capacity];
+        freeNodes = Arrays.copyOf(freeNodes, capacity);
+    }
+    
+    /**
+     * Returns the node with the heaviest key on the path between u and v (which must be connected).
+     */
+    private int pathMax(int u, int v) {
+        makeRoot(u);
+        access(v);
+        return maxNode[v];
+    }
+    
+    private void link(int child, int newParent) {
+        makeRoot(child);
+        parent[child] = newParent;
+    }
+    
+    // Removes the tree edge between adjacent nodes x and y
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // Now x is y's left child in the splay tree, with nothing between them
+        left[y] = -1;
+        parent[x] = -1;
+        pull(y);
+    }
+    
+    private int findRoot(int x) {
+        access(x);
+        while (true) {
+            push(x);
+            if (left[x] == -1) {
+                break;
+            }
+            x = left[x];
+        }
+        splay(x);
+        return x;
+    }
+    
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] ^= true;
+    }
+    
+    // Makes the path from the root to x preferred, leaving x at the root of its splay tree
+    private void access(int x) {
+        int last = -1;
+        for (int y = x; y != -1; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+    
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == -1 || (left[p] != x && right[p] != x);
+    }
+    
+    private void splay(int x) {
+        // Push pending reversals down from the splay root to x
+        int top = 0;
+        stack[top++] = x;
+        for (int y = x; !isSplayRoot(y); y = parent[y]) {
+            stack[top++] = parent[y];
+        }
+        while (top > 0) {
+            push(stack[--top]);
+        }
+        
+        while (!isSplayRoot(x)) {
+            int y = parent[x];
+            if (!isSplayRoot(y)) {
+                int z = parent[y];
+                rotate((left[y] == x) == (left[z] == y) ? y : x);
+            }
+            rotate(x);
+        }
+    }
+    
+    private void rotate(int x) {
+        int y = parent[x];
+        int z = parent[y];
+        if (!isSplayRoot(y)) {
+            if (left[z] == y) {
+                left[z] = x;
+            } else {
+                right[z] = x;
+            }
+        }
+        parent[x] = z;
+        
+        if (left[y] == x) {
+            left[y] = right[x];
+            if (right[x] != -1) {
+                parent[right[x]] = y;
+            }
+            right[x] = y;
+        } else {
+            right[y] = left[x];
+            if (left[x] != -1) {
+                parent[left[x]] = y;
+            }
+            left[x] = y;
+        }
+        parent[y] = x;
+        pull(y);
+        pull(x);
+    }
+    
+    private void push(int x) {
+        if (reversed[x]) {
+            int tmp = left[x];
+            left[x] = right[x];
+            right[x] = tmp;
+            if (left[x] != -1) {
+                reversed[left[x]] ^= true;
+            }
+            if (right[x] != -1) {
+                reversed[right[x]] ^= true;
+            }
+            reversed[x] = false;
+        }
+    }
+    
+    private void pull(int x) {
+        int best = x;
+        if (left[x] != -1 && key[maxNode[left[x]]] > key[best]) {
+            best = maxNode[left[x]];
+        }
+        if (right[x] != -1 && key[maxNode[right[x]]] > key[best]) {
+            best = maxNode[right[x]];
+        }
+        maxNode[x] = best;
+    }
+    
+    /**
+     * Example usage of the incremental MST
+     */
+    public static void main(String[] args) {
+        // Same graph as the larger KruskalMST example, streamed edge by edge
+        KruskalMST graph = new KruskalMST(9);
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(0, 7, 8);
+        graph.addEdge(1, 2, 8);
+        graph.addEdge(1, 7, 11);
+        graph.addEdge(2, 3, 7);
+        graph.addEdge(2, 8, 2);
+        graph.addEdge(2, 5, 4);
+        graph.addEdge(3, 4, 9);
+        graph.addEdge(3, 5, 14);
+        graph.addEdge(4, 5, 10);
+        graph.addEdge(5, 6, 2);
+        graph.addEdge(6, 7, 1);
+        graph.addEdge(6, 8, 6);
+        graph.addEdge(7, 8, 7);
+        
+        IncrementalMST mst = graph.incrementalMST();
+        System.out.println("Initial MST weight: " + mst.getTotalWeight());
+        System.out.println("Heaviest edge between 0 and 4: " + mst.maxEdgeOnPath(0, 4));
+        mst.addEdge(0, 4, 3);
+        System.out.println("After adding 0 -- 4 == 3: weight " + mst.getTotalWeight() + ", edges " + mst.getEdges());
+        
+        // Edge stream on a large random graph, compared with rerunning Kruskal
+        int n = 200_000;
+        Random random = new Random(31);
+        KruskalMST network = new KruskalMST(n);
+        for (int i = 0; i < 1_000_000; i++) {
+            network.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(1_000_000));
+        }
+        IncrementalMST live = network.incrementalMST();
+        
+        int streamed = 200_000;
+        long startTime = System.nanoTime();
+        for (int i = 0; i < streamed; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            int weight = random.nextInt(1_000_000);
+            network.addEdge(u, v, weight);
+            live.addEdge(u, v, weight);
+        }
+        long streamNanos = System.nanoTime() - startTime;
+        
+        startTime = System.nanoTime();
+        List<KruskalMST.Edge> recomputed = network.kruskalMST();
+        long recomputeNanos = System.nanoTime() - startTime;
+        
+        long expectedWeight = 0;
+        for (KruskalMST.Edge edge : recomputed) {
+            expectedWeight += edge.weight;
+        }
+        System.out.printf("%nAverage incremental update: %.2f us%n", streamNanos / 1e3 / streamed);
+        System.out.printf("One full Kruskal recomputation: %.1f ms%n", recomputeNanos / 1e6);
+        System.out.println("Same weight as a full recomputation: " + (expectedWeight == live.getTotalWeight())
+                + " (" + live.getNumEdges() + " edges)");
+    }
+}
@@ -0,0 +1,247 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Implementation of Yen's algorithm for the k shortest loopless paths between two vertices.
+ * 
+ * The first path is the ordinary shortest path. Every further path deviates from an already
+ * accepted path at some "spur" vertex: for each vertex i of the last accepted path,
+ * 1. The root path is the prefix up to i
+ * 2. Edges leaving i that an accepted path with the same root already uses are blocked, and so
+ *    are the root's vertices before i (to keep the path loopless)
+ * 3. A shortest "spur" path from i to the destination under those masks completes a candidate
+ * The cheapest candidate not yet accepted becomes the next path.
+ * 
+ * Spur searches reuse DijkstraAlgorithm's masked search on the CSR graph instead of copying
+ * the graph, and the searches of one iteration are independent, so they run in parallel. The
+ * spur indices are split into one chunk per worker, and each chunk has one workspace and one
+ * set of masks, allocated by the call and dropped when it returns.
+ * 
+ * Time Complexity: O(K * N * (V + E) log V) where N is the number of vertices on a path
+ * Space Complexity: O(V + E) per worker plus the candidate paths
+ */
+public class KShortestPaths {
+    
+    /**
+     * A path together with its total weight.
+     */
+    public static class Path {
+        public final List<Integer> vertices;
+        public final long cost;
+        
+        public Path(List<Integer> vertices, long cost) {
+            this.vertices = vertices;
+            this.cost = cost;
+        }
+        
+        @Override
+        public String toString() {
+            return vertices + " (cost " + cost + ")";
+        }
+    }
+    
+    /**
+     * Search state of one chunk of spur indices, cleared after each spur search in O(path length).
+     */
+    private static class SpurState {
+        final DijkstraAlgorithm.ShortestPathWorkspace workspace;
+        final boolean[] blockedVertices;
+        final BitSet blockedEdges;
+        
+        SpurState(int numVertices, int numEdges) {
+            workspace = new DijkstraAlgorithm.ShortestPathWorkspace(numVertices);
+            blockedVertices = new boolean[numVertices];
+            blockedEdges = new BitSet(numEdges);
+        }
+    }
+    
+    /**
+     * Finds up to k shortest loopless paths using the common fork-join pool.
+     * 
+     * @param graph the CSR graph to search
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param k the number of paths wanted
+     * @return the paths in order of increasing cost (fewer than k if fewer exist)
+     */
+    public static List<Path> findKShortestPaths(DijkstraAlgorithm.CsrGraph graph, int source, int destination, int k) {
+        return findKShortestPaths(graph, source, destination, k, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Finds up to k shortest loopless paths, running each iteration's spur searches on a pool.
+     * 
+     * @param graph the CSR graph to search
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param k the number of paths wanted
+     * @param pool the pool to run spur searches on
+     * @return the paths in order of increasing cost (fewer than k if fewer exist)
+     */
+    public static List<Path> findKShortestPaths(DijkstraAlgorithm.CsrGraph graph, int source, int destination,
+                                                int k, ForkJoinPool pool) {
+        List<Path> accepted = new ArrayList<>();
+        if (k <= 0) {
+            return accepted;
+        }
+        
+        List<Integer> first = DijkstraAlgorithm.findShortestPath(graph, source, destination);
+        if (first.isEmpty()) {
+            return accepted;
+        }
+        accepted.add(new Path(first, pathCost(graph, first)));
+        
+        // Candidates ordered by cost, then by number of vertices
+        PriorityQueue<Path> candidates = new PriorityQueue<>(
+                Comparator.comparingLong((Path path) -> path.cost).thenComparingInt(path -> path.vertices.size()));
+        Set<List<Integer>> seen = new HashSet<>();
+        seen.add(first);
+        
+        // One state per chunk, created on first use and kept across iterations of this call
+        SpurState[] states = new SpurState[pool.getParallelism() + 1];
+        
+        while (accepted.size() < k) {
+            List<Integer> previous = accepted.get(accepted.size() - 1).vertices;
+            int spurCount = previous.size() - 1;
+            int chunks = Math.min(spurCount, states.length);
+            
+            // Spur indices are dealt out round-robin; results keep their spur order
+            Path[] spurPaths = new Path[spurCount];
+            pool.submit(() -> IntStream.range(0, chunks).parallel().forEach(chunk -> {
+                if (states[chunk] == null) {
+                    states[chunk] = new SpurState(graph.getNumVertices(), graph.getNumEdges());
+                }
+                for (int spurIndex = chunk; spurIndex < spurCount; spurIndex += chunks) {
+                    spurPaths[spurIndex] = spurCandidate(graph, destination, accepted, previous, spurIndex,
+                            states[chunk]);
+                }
+            })).join();
+            
+            for (Path candidate : spurPaths) {
+                if (candidate != null && seen.add(candidate.vertices)) {
+                    candidates.add(candidate);
+                }
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+            accepted.add(candidates.poll());
+        }
+        
+        return accepted;
+    }
+    
+    /**
+     * Builds the candidate that deviates from a path at the given spur index, or null if none exists.
+     */
+    private static Path spurCandidate(DijkstraAlgorithm.CsrGraph graph, int destination, List<Path> accepted,
+                                      List<Integer> previous, int spurIndex, SpurState state) {
+        int spur = previous.get(spurIndex);
+        List<Integer> root = previous.subList(0, spurIndex + 1);
+        
+        // Block the next edge of every accepted path that shares this root
+        List<Integer> blockedEdgeList = new ArrayList<>();
+        for (Path path : accepted) {
+            if (path.vertices.size() > spurIndex + 1 && path.vertices.subList(0, spurIndex + 1).equals(root)) {
+                int next = path.vertices.get(spurIndex + 1);
+                for (int e = graph.edgeStart(spur); e < graph.edgeEnd(spur); e++) {
+                    if (graph.target(e) == next) {
+                        state.blockedEdges.set(e);
+                        blockedEdgeList.add(e);
+                    }
+                }
+            }
+        }
+        // Block the root vertices before the spur so the path stays loopless
+        for (int i = 0; i < spurIndex; i++) {
+            state.blockedVertices[previous.get(i)] = true;
+        }
+        
+        List<Integer> spurPath = DijkstraAlgorithm.findShortestPath(graph, spur, destination, state.workspace,
+                state.blockedVertices, state.blockedEdges);
+        
+        // Clear the masks for the next search on this thread
+        for (int e : blockedEdgeList) {
+            state.blockedEdges.clear(e);
+        }
+        for (int i = 0; i < spurIndex; i++) {
+            state.blockedVertices[previous.get(i)] = false;
+        }
+        
+        if (spurPath.isEmpty()) {
+            return null;
+        }
+        List<Integer> vertices = new ArrayList<>(root.subList(0, spurIndex));
+        vertices.addAll(spurPath);
+        // Summed in long, unlike the workspace's int distance, so long spur paths do not wrap
+        return new Path(vertices, pathCost(graph, vertices));
+    }
+    
+    /**
+     * Sums the weights along a path, using the cheapest edge between consecutive vertices.
+     */
+    private static long pathCost(DijkstraAlgorithm.CsrGraph graph, List<Integer> path) {
+        long cost = 0;
+        for (int i = 0; i + 1 < path.size(); i++) {
+            int best = Integer.MAX_VALUE;
+            for (int e = graph.edgeStart(path.get(i)); e < graph.edgeEnd(path.get(i)); e++) {
+                if (graph.target(e) == path.get(i + 1)) {
+                    best = Math.min(best, graph.weight(e));
+                }
+            }
+            cost += best;
+        }
+        return cost;
+    }
+    
+    /**
+     * Example usage of Yen's k shortest paths
+     */
+    public static void main(String[] args) {
+        // Classic example graph (C=0, D=1, E=2, F=3, G=4, H=5)
+        DijkstraAlgorithm.Graph graph = new DijkstraAlgorithm.Graph(6, true);
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 1, 1);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(2, 4, 3);
+        graph.addEdge(3, 4, 2);
+        graph.addEdge(3, 5, 1);
+        graph.addEdge(4, 5, 2);
+        
+        System.out.println("3 shortest paths from 0 to 5:");
+        for (Path path : findKShortestPaths(graph.freeze(), 0, 5, 3)) {
+            System.out.println(path);
+        }
+        
+        // Alternative routes on a grid
+        int side = 200;
+        DijkstraAlgorithm.Graph grid = new DijkstraAlgorithm.Graph(side * side, false);
+        Random random = new Random(17);
+        for (int row = 0; row < side; row++) {
+            for (int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                if (col + 1 < side) {
+                    grid.addEdge(vertex, vertex + 1, 1 + random.nextInt(100));
+                }
+                if (row + 1 < side) {
+                    grid.addEdge(vertex, vertex + side, 1 + random.nextInt(100));
+                }
+            }
+        }
+        DijkstraAlgorithm.CsrGraph gridCsr = grid.freeze();
+        
+        long startTime = System.currentTimeMillis();
+        List<Path> routes = findKShortestPaths(gridCsr, 0, 30 * side + 30, 10);
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("\nFound " + routes.size() + " alternative routes on a " + side + "x" + side
+                + " grid in " + (endTime - startTime) + "ms, costs:");
+        for (Path route : routes) {
+            System.out.print(route.cost + " ");
+        }
+        System.out.println();
+    }
+}
@@ -7,7 +7,8 @@ import java.util.*;
  * undirected graph that connects all vertices with the minimum possible 
  * total edge weight.
  * 
- * Time Complexity: O(E log E) where E is the number of edges
+ * Time Complexity: O(E α(V)) where E is the number of edges; the edges are sorted by weight
+ * with an O(E) radix sort instead of an O(E log E) comparison sort
  * Space Complexity: O(V + E) where V is the number of vertices
  * 
  * Common Interview Uses:
@@ -31,7 +32,7 @@ public class KruskalMST {
         
         @Override
         public int compareTo(Edge other) {
-            return this.weight - other.weight;
+            return Integer.compare(this.weight, other.weight);
         }
         
         @Override
@@ -54,12 +55,18 @@ public class KruskalMST {
             }
         }
         
-        // Find root of set with path compression
+        // Find root of set with path compression (iterative, so long chains cannot overflow the stack)
         public int find(int x) {
-            if (parent[x] != x) {
-                parent[x] = find(parent[x]);
+            int root = x;
+            while (parent[root] != root) {
+                root = parent[root];
             }
-            return parent[x];
+            while (parent[x] != root) {
+                int next = parent[x];
+                parent[x] = root;
+                x = next;
+            }
+            return root;
         }
         
         // Union by rank
@@ -80,8 +87,85 @@ public class KruskalMST {
         }
     }
     
+    /**
+     * Edge storage in three parallel int arrays instead of one Edge object per edge
+     */
+    static class EdgeStore {
+        int[] src = new int[16];
+        int[] dest = new int[16];
+        int[] weight = new int[16];
+        int size;
+        
+        public void add(int s, int d, int w) {
+            if (size == src.length) {
+                int capacity = size * 2;
+                src = Arrays.copyOf(src, capacity);
+                dest = Arrays.copyOf(dest, capacity);
+                weight = Arrays.copyOf(weight, capacity);
+            }
+            src[size] = s;
+            dest[size] = d;
+            weight[size] = w;
+            size++;
+        }
+        
+        // Shrink the arrays to exactly size entries
+        public void trimToSize() {
+            if (src.length != size) {
+                src = Arrays.copyOf(src, size);
+                dest = Arrays.copyOf(dest, size);
+                weight = Arrays.copyOf(weight, size);
+            }
+        }
+        
+        /**
+         * Sorts edge indices by weight with a stable LSD radix sort (two passes of 16 bits).
+         * Equal weights keep insertion order, just like Collections.sort on the Edge list.
+         * @return edge indices in non-decreasing order of weight
+         */
+        public int[] sortedOrder() {
+            int[] order = new int[size];
+            int[] buffer = new int[size];
+            int[] counts = new int[1 << 16];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            
+            for (int shift = 0; shift < 32; shift += 16) {
+                // Flipping the sign bit makes negative weights sort before positive ones
+                Arrays.fill(counts, 0);
+                for (int i = 0; i < size; i++) {
+                    counts[((weight[i] ^ Integer.MIN_VALUE) >>> shift) & 0xFFFF]++;
+                }
+                
+                // Skip the pass if every edge has the same digit (e.g. all weights < 65536)
+                int firstDigit = size == 0 ? 0 : ((weight[0] ^ Integer.MIN_VALUE) >>> shift) & 0xFFFF;
+                if (counts[firstDigit] == size) {
+                    continue;
+                }
+                
+                // Turn counts into starting positions, then scatter in current order
+                int position = 0;
+                for (int digit = 0; digit < counts.length; digit++) {
+                    int count = counts[digit];
+                    counts[digit] = position;
+                    position += count;
+                }
+                for (int i = 0; i < size; i++) {
+                    int e = order[i];
+                    buffer[counts[((weight[e] ^ Integer.MIN_VALUE) >>> shift) & 0xFFFF]++] = e;
+                }
+                int[] swap = order;
+                order = buffer;
+                buffer = swap;
+            }
+            
+            return order;
+        }
+    }
+    
     private int V; // Number of vertices
-    private List<Edge> edges; // Collection of all edges
+    private EdgeStore edges; // Collection of all edges
     
     /**
      * Constructor
@@ -89,7 +173,7 @@ public class KruskalMST {
      */
     public KruskalMST(int v) {
         this.V = v;
-        this.edges = new ArrayList<>();
+        this.edges = new EdgeStore();
     }
     
     /**
@@ -99,8 +183,7 @@ public class KruskalMST {
      * @param weight weight of the edge
      */
     public void addEdge(int src, int dest, int weight) {
-        Edge edge = new Edge(src, dest, weight);
-        edges.add(edge);
+        edges.add(src, dest, weight);
     }
     
     /**
@@ -111,7 +194,7 @@ public class KruskalMST {
         List<Edge> mst = new ArrayList<>();
         
         // Step 1: Sort all edges in non-decreasing order of their weight
-        Collections.sort(edges);
+        int[] order = edges.sortedOrder();
         
         // Create disjoint sets
         UnionFind uf = new UnionFind(V);
@@ -121,15 +204,16 @@ public class KruskalMST {
         int index = 0;
         
         // Process all edges until we have V-1 edges in MST
-        while (edgeCount < V - 1 && index < edges.size()) {
-            Edge nextEdge = edges.get(index++);
+        while (edgeCount < V - 1 && index < order.length) {
+            int next = order[index++];
             
-            int x = uf.find(nextEdge.src);
-            int y = uf.find(nextEdge.dest);
+            int x = uf.find(edges.src[next]);
+            int y = uf.find(edges.dest[next]);
             
             // If including this edge doesn't cause a cycle, include it
+            // (only MST edges are materialized as Edge objects)
             if (x != y) {
-                mst.add(nextEdge);
+                mst.add(new Edge(edges.src[next], edges.dest[next], edges.weight[next]));
                 uf.union(x, y);
                 edgeCount++;
             }
@@ -139,6 +223,72 @@ public class KruskalMST {
         return mst;
     }
     
+    /**
+     * Finds the Minimum Spanning Tree using Borůvka's algorithm, searching for each
+     * component's cheapest edge in parallel. Returns the same edges as kruskalMST().
+     * @return list of edges in the MST
+     */
+    public List<Edge> boruvkaMST() {
+        edges.trimToSize();
+        return BoruvkaMST.findMST(V, edges.src, edges.dest, edges.weight);
+    }
+    
+    /**
+     * Computes the MST and returns it as an IncrementalMST, so later edges can be
+     * streamed in with IncrementalMST.addEdge instead of rerunning Kruskal.
+     * @return the incremental MST seeded with the current MST
+     */
+    public IncrementalMST incrementalMST() {
+        IncrementalMST incremental = new IncrementalMST(V);
+        for (Edge edge : kruskalMST()) {
+            incremental.addEdge(edge.src, edge.dest, edge.weight);
+        }
+        return incremental;
+    }
+    
+    /**
+     * Single-linkage clustering: runs Kruskal's algorithm only until k components remain,
+     * which is the same as cutting the k-1 heaviest edges of the MST
+     * @param k number of clusters
+     * @return cluster label of each vertex, numbered 0, 1, ... in order of first vertex
+     *         (more than k labels if the graph has more than k connected components)
+     */
+    public int[] cluster(int k) {
+        // Validate number of clusters
+        if (k < 1 || k > V) {
+            throw new IllegalArgumentException("Invalid number of clusters");
+        }
+        
+        int[] order = edges.sortedOrder();
+        UnionFind uf = new UnionFind(V);
+        
+        // Merge the closest components until only k are left
+        int components = V;
+        for (int index = 0; components > k && index < order.length; index++) {
+            int next = order[index];
+            int x = uf.find(edges.src[next]);
+            int y = uf.find(edges.dest[next]);
+            if (x != y) {
+                uf.union(x, y);
+                components--;
+            }
+        }
+        
+        // Relabel the roots compactly
+        int[] rootLabel = new int[V];
+        Arrays.fill(rootLabel, -1);
+        int[] labels = new int[V];
+        int nextLabel = 0;
+        for (int v = 0; v < V; v++) {
+            int root = uf.find(v);
+            if (rootLabel[root] == -1) {
+                rootLabel[root] = nextLabel++;
+            }
+            labels[v] = rootLabel[root];
+        }
+        return labels;
+    }
+    
     /**
      * Calculates the total weight of the MST
      * @param mst list of edges in the MST
@@ -217,5 +367,22 @@ public class KruskalMST {
         }
         
         System.out.println("Total MST weight: " + largeGraph.getTotalWeight(mst));
+        System.out.println("Cluster labels for k = 3: " + Arrays.toString(largeGraph.cluster(3)));
+        
+        // Performance test with 5,000,000 random edges
+        int n = 1_000_000;
+        KruskalMST randomGraph = new KruskalMST(n);
+        Random random = new Random(21);
+        for (int i = 0; i < 5_000_000; i++) {
+            randomGraph.addEdge(random.nextInt(n), random.nextInt(n), random.nextInt(1000));
+        }
+        
+        long startTime = System.currentTimeMillis();
+        mst = randomGraph.kruskalMST();
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("\nPerformance test (1,000,000 vertices, 5,000,000 edges):");
+        System.out.println("Kruskal with radix-sorted edge store took " + (endTime - startTime) + "ms, MST weight "
+                + randomGraph.getTotalWeight(mst));
     }
 }
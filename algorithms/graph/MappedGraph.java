@@ -0,0 +1,286 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Read-only graph stored in a binary CSR file and memory-mapped for zero-copy loading.
+ * 
+ * File layout (little-endian 32-bit ints):
+ * - Header: magic, version, number of vertices V, number of edges E
+ * - offsets: V + 1 ints, the outgoing edges of v are offsets[v] .. offsets[v + 1] - 1
+ * - targets: E ints
+ * - weights: E ints
+ * 
+ * The file is written once with {@link #write}. {@link #open} maps the three sections with
+ * FileChannel.map and queries read the mapped IntBuffers directly, so opening costs O(1) instead
+ * of millions of addEdge calls, the data lives in the OS page cache rather than the Java heap,
+ * and graphs larger than the heap can be searched. Searches run DijkstraAlgorithm's search loop
+ * through the edge accessors below. Each section is mapped separately and must stay under 2 GB,
+ * which allows up to about 500 million edges.
+ * 
+ * Space Complexity: O(1) on the heap for the graph itself; O(V) per query workspace
+ */
+public class MappedGraph implements DijkstraAlgorithm.CsrEdges {
+    
+    private static final int FILE_MAGIC = 0x43535247; // "CSRG"
+    private static final int FILE_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    
+    private final int numVertices;
+    private final int numEdges;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer weights;
+    
+    private MappedGraph(int numVertices, int numEdges, IntBuffer offsets, IntBuffer targets, IntBuffer weights) {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+    }
+    
+    /**
+     * Writes a graph to a file in the mapped CSR format.
+     * 
+     * @param graph the graph to write
+     * @param file the file to create or overwrite
+     * @throws IOException if writing fails
+     */
+    public static void write(DijkstraAlgorithm.Graph graph, Path file) throws IOException {
+        write(graph.freeze(), file);
+    }
+    
+    /**
+     * Writes a CSR graph to a file in the mapped CSR format.
+     * 
+     * @param graph the graph to write
+     * @param file the file to create or overwrite
+     * @throws IOException if writing fails
+     */
+    public static void write(DijkstraAlgorithm.CsrGraph graph, Path file) throws IOException {
+        int n = graph.getNumVertices();
+        int m = graph.getNumEdges();
+        
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(FILE_MAGIC).putInt(FILE_VERSION).putInt(n).putInt(m);
+            
+            // Each section is streamed through the buffer, flushing whenever it fills up
+            for (int v = 0; v <= n; v++) {
+                putInt(channel, buffer, v < n ? graph.edgeStart(v) : m);
+            }
+            for (int e = 0; e < m; e++) {
+                putInt(channel, buffer, graph.target(e));
+            }
+            for (int e = 0; e < m; e++) {
+                putInt(channel, buffer, graph.weight(e));
+            }
+            flush(channel, buffer);
+        }
+    }
+    
+    private static void putInt(FileChannel channel, ByteBuffer buffer, int value) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) {
+            flush(channel, buffer);
+        }
+        buffer.putInt(value);
+    }
+    
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+    
+    /**
+     * Opens a graph file by memory-mapping it. The mapping stays valid after this returns.
+     * 
+     * @param file the file written by {@link #write}
+     * @return the mapped graph
+     * @throws IOException if the file cannot be read or is not a mapped graph file
+     */
+    public static MappedGraph open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != FILE_MAGIC || header.getInt() != FILE_VERSION) {
+                throw new IOException("Not a mapped graph file: " + file);
+            }
+            int n = header.getInt();
+            int m = header.getInt();
+            
+            // Negative counts or a section over 2 GB cannot be mapped
+            if (n < 0 || m < 0 || n >= Integer.MAX_VALUE / 4 || m > Integer.MAX_VALUE / 4) {
+                throw new IOException("Invalid mapped graph header: " + file);
+            }
+            
+            long offsetsStart = HEADER_BYTES;
+            long targetsStart = offsetsStart + 4L * (n + 1);
+            long weightsStart = targetsStart + 4L * m;
+            if (channel.size() < weightsStart + 4L * m) {
+                throw new IOException("Truncated mapped graph file: " + file);
+            }
+            
+            return new MappedGraph(n, m,
+                    map(channel, offsetsStart, n + 1),
+                    map(channel, targetsStart, m),
+                    map(channel, weightsStart, m));
+        }
+    }
+    
+    private static IntBuffer map(FileChannel channel, long position, int count) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, 4L * count)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asIntBuffer();
+    }
+    
+    /**
+     * Gets the number of vertices in the graph.
+     * 
+     * @return the number of vertices
+     */
+    public int getNumVertices() {
+        return numVertices;
+    }
+    
+    /**
+     * Gets the number of stored (directed) edges.
+     * 
+     * @return the number of edges
+     */
+    public int getNumEdges() {
+        return numEdges;
+    }
+    
+    /**
+     * Gets the index of the first outgoing edge of a vertex.
+     * 
+     * @param vertex the vertex
+     * @return the first edge index
+     */
+    public int edgeStart(int vertex) {
+        return offsets.get(vertex);
+    }
+    
+    /**
+     * Gets the index one past the last outgoing edge of a vertex.
+     * 
+     * @param vertex the vertex
+     * @return the end edge index (exclusive)
+     */
+    public int edgeEnd(int vertex) {
+        return offsets.get(vertex + 1);
+    }
+    
+    /**
+     * Gets the destination vertex of an edge.
+     * 
+     * @param edge the edge index
+     * @return the destination vertex
+     */
+    public int target(int edge) {
+        return targets.get(edge);
+    }
+    
+    /**
+     * Gets the weight of an edge.
+     * 
+     * @param edge the edge index
+     * @return the edge weight
+     */
+    public int weight(int edge) {
+        return weights.get(edge);
+    }
+    
+    /**
+     * Finds shortest distances from a source vertex into a reusable workspace, reading the
+     * edges straight from the mapped file.
+     * 
+     * @param source the source vertex
+     * @param workspace the workspace to run the search in
+     */
+    public void findShortestPaths(int source, DijkstraAlgorithm.ShortestPathWorkspace workspace) {
+        // Validate source vertex
+        if (source < 0 || source >= numVertices) {
+            throw new IllegalArgumentException("Invalid source vertex");
+        }
+        
+        DijkstraAlgorithm.runDijkstra(this, source, -1, workspace, null, null);
+    }
+    
+    /**
+     * Finds the shortest path between two vertices, reading the edges straight from the mapped file.
+     * 
+     * @param source the source vertex
+     * @param destination the destination vertex
+     * @param workspace the workspace to run the search in
+     * @return a list of vertices representing the shortest path, or an empty list if no path exists
+     */
+    public List<Integer> findShortestPath(int source, int destination, DijkstraAlgorithm.ShortestPathWorkspace workspace) {
+        // Validate vertices
+        if (source < 0 || source >= numVertices || destination < 0 || destination >= numVertices) {
+            throw new IllegalArgumentException("Invalid vertex");
+        }
+        
+        DijkstraAlgorithm.runDijkstra(this, source, destination, workspace, null, null);
+        return DijkstraAlgorithm.buildPath(workspace, destination);
+    }
+    
+    /**
+     * Example usage of the mapped graph format
+     */
+    public static void main(String[] args) throws IOException {
+        // Build a large random graph the slow way, once
+        int n = 1_000_000;
+        Random random = new Random(9);
+        long startTime = System.currentTimeMillis();
+        DijkstraAlgorithm.Graph graph = new DijkstraAlgorithm.Graph(n, true);
+        for (int i = 0; i < 5_000_000; i++) {
+            graph.addEdge(random.nextInt(n), random.nextInt(n), 1 + random.nextInt(100));
+        }
+        DijkstraAlgorithm.CsrGraph csr = graph.freeze();
+        long endTime = System.currentTimeMillis();
+        System.out.println("Building the graph with addEdge took " + (endTime - startTime) + "ms");
+        
+        Path file = Files.createTempFile("graph", ".csr");
+        startTime = System.currentTimeMillis();
+        write(csr, file);
+        endTime = System.currentTimeMillis();
+        System.out.println("Writing " + Files.size(file) / (1 << 20) + " MB took " + (endTime - startTime) + "ms");
+        
+        // Opening only maps the file
+        startTime = System.currentTimeMillis();
+        MappedGraph mapped = open(file);
+        endTime = System.currentTimeMillis();
+        System.out.println("Opening the mapped graph took " + (endTime - startTime) + "ms");
+        
+        DijkstraAlgorithm.ShortestPathWorkspace workspace = new DijkstraAlgorithm.ShortestPathWorkspace(n);
+        startTime = System.currentTimeMillis();
+        mapped.findShortestPaths(0, workspace);
+        endTime = System.currentTimeMillis();
+        System.out.println("Query over the mapped buffers took " + (endTime - startTime) + "ms");
+        
+        int[] expected = DijkstraAlgorithm.findShortestPathsIndexed(csr, 0);
+        boolean equal = true;
+        for (int v = 0; v < n; v++) {
+            equal &= expected[v] == workspace.getDistance(v);
+        }
+        System.out.println("Same distances as the in-heap graph: " + equal);
+        System.out.println("Path from 0 to 1: " + mapped.findShortestPath(0, 1, workspace));
+        
+        Files.delete(file);
+    }
+}
@@ -1,4 +1,7 @@
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
 
 /**
  * Implementation of Topological Sort algorithm.
@@ -8,7 +11,7 @@ import java.util.*;
  * Topological Sort is only possible for Directed Acyclic Graphs (DAG).
  * 
  * Time Complexity: O(V + E) where V is the number of vertices and E is the number of edges
- * Space Complexity: O(V) for the visited array and stack
+ * Space Complexity: O(V + E) for the visited state, the explicit DFS stack and a CSR copy of the edges
  * 
  * Common Interview Uses:
  * - Scheduling tasks with dependencies
@@ -18,9 +21,26 @@ import java.util.*;
  */
 public class TopologicalSort {
     
+    // Frontiers smaller than this are processed on the calling thread
+    private static final int PARALLEL_THRESHOLD = 1024;
+    
     private int V; // Number of vertices
     private List<List<Integer>> adj; // Adjacency list representation
     
+    /**
+     * Compressed sparse row snapshot of the adjacency lists: the neighbors of v are
+     * targets[offsets[v]] .. targets[offsets[v + 1] - 1], in insertion order
+     */
+    private static final class Csr {
+        final int[] offsets;
+        final int[] targets;
+        
+        Csr(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+    }
+    
     /**
      * Constructor
      * @param v number of vertices
@@ -33,6 +53,149 @@ public class TopologicalSort {
         }
     }
     
+    /**
+     * Result of a strongly connected components pass: the component of every vertex and the
+     * condensation DAG (one vertex per component) in CSR form. Components are numbered in
+     * topological order, so every condensation edge goes from a smaller id to a larger one.
+     */
+    public static final class StronglyConnectedComponents {
+        private final int[] componentOf;
+        private final int[] componentSizes;
+        private final boolean[] selfLoop;
+        private final int[] offsets;
+        private final int[] targets;
+        
+        private StronglyConnectedComponents(int[] componentOf, int[] componentSizes, boolean[] selfLoop,
+                                            int[] offsets, int[] targets) {
+            this.componentOf = componentOf;
+            this.componentSizes = componentSizes;
+            this.selfLoop = selfLoop;
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+        
+        /**
+         * Get the number of components
+         * @return number of components
+         */
+        public int getNumComponents() {
+            return componentSizes.length;
+        }
+        
+        /**
+         * Get the component of a vertex
+         * @param v vertex
+         * @return component id
+         */
+        public int getComponent(int v) {
+            return componentOf[v];
+        }
+        
+        /**
+         * Get the component ids of all vertices
+         * @return array indexed by vertex
+         */
+        public int[] getComponentIds() {
+            return componentOf.clone();
+        }
+        
+        /**
+         * Get the number of vertices in a component
+         * @param component component id
+         * @return component size
+         */
+        public int getComponentSize(int component) {
+            return componentSizes[component];
+        }
+        
+        /**
+         * Check whether a component contains a cycle (more than one vertex, or a self-loop)
+         * @param component component id
+         * @return true if the component is cyclic
+         */
+        public boolean isCyclic(int component) {
+            return componentSizes[component] > 1 || selfLoop[component];
+        }
+        
+        /**
+         * Check whether the graph has any cycle
+         * @return true if some component is cyclic
+         */
+        public boolean hasCycle() {
+            for (int c = 0; c < componentSizes.length; c++) {
+                if (isCyclic(c)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Get the vertices of every component
+         * @return member lists indexed by component id, each in increasing vertex order
+         */
+        public int[][] getMembers() {
+            int[][] members = new int[componentSizes.length][];
+            int[] filled = new int[componentSizes.length];
+            for (int c = 0; c < members.length; c++) {
+                members[c] = new int[componentSizes[c]];
+            }
+            for (int v = 0; v < componentOf.length; v++) {
+                int c = componentOf[v];
+                members[c][filled[c]++] = v;
+            }
+            return members;
+        }
+        
+        /**
+         * Get the number of edges in the condensation DAG (parallel edges are merged)
+         * @return number of condensation edges
+         */
+        public int getNumCondensationEdges() {
+            return targets.length;
+        }
+        
+        /**
+         * Get the first condensation edge of a component; its edges are
+         * edgeStart(c) .. edgeEnd(c) - 1
+         * @param component component id
+         * @return first edge index
+         */
+        public int edgeStart(int component) {
+            return offsets[component];
+        }
+        
+        /**
+         * Get the end (exclusive) of a component's condensation edges
+         * @param component component id
+         * @return one past the last edge index
+         */
+        public int edgeEnd(int component) {
+            return offsets[component + 1];
+        }
+        
+        /**
+         * Get the component a condensation edge points to
+         * @param edge edge index
+         * @return target component id
+         */
+        public int target(int edge) {
+            return targets[edge];
+        }
+        
+        /**
+         * Get a topological order of the condensation DAG
+         * @return component ids in topological order (0, 1, ... since ids follow that order)
+         */
+        public int[] getTopologicalOrder() {
+            int[] order = new int[componentSizes.length];
+            for (int c = 0; c < order.length; c++) {
+                order[c] = c;
+            }
+            return order;
+        }
+    }
+    
     /**
      * Add a directed edge from vertex u to vertex v
      * @param u source vertex
@@ -43,71 +206,93 @@ public class TopologicalSort {
     }
     
     /**
-     * Performs topological sort using Depth-First Search
-     * @return array containing the topologically sorted vertices, or null if graph has a cycle
+     * Get the number of vertices
+     * @return number of vertices
      */
-    public int[] topologicalSort() {
-        // Create a boolean array to track visited vertices
-        boolean[] visited = new boolean[V];
-        // Create a boolean array to track vertices in current recursion stack
-        boolean[] recStack = new boolean[V];
-        // Create a stack to store the result
-        Stack<Integer> stack = new Stack<>();
-        
-        // Call the recursive helper for all unvisited vertices
+    public int getNumVertices() {
+        return V;
+    }
+    
+    /**
+     * Get the vertices that vertex u has edges to
+     * @param u source vertex
+     * @return read-only list of destination vertices, in insertion order
+     */
+    public List<Integer> getAdjacentVertices(int u) {
+        return Collections.unmodifiableList(adj.get(u));
+    }
+    
+    /**
+     * Copies the adjacency lists into CSR arrays
+     * @return the CSR snapshot
+     */
+    private Csr toCsr() {
+        int[] offsets = new int[V + 1];
         for (int i = 0; i < V; i++) {
-            if (!visited[i]) {
-                if (topologicalSortUtil(i, visited, recStack, stack)) {
-                    // Cycle detected
-                    return null;
-                }
-            }
+            offsets[i + 1] = offsets[i] + adj.get(i).size();
         }
-        
-        // Pop all vertices from stack and return result
-        int[] result = new int[V];
-        int index = 0;
-        while (!stack.isEmpty()) {
-            result[index++] = stack.pop();
+        int[] targets = new int[offsets[V]];
+        for (int i = 0; i < V; i++) {
+            int position = offsets[i];
+            for (int neighbor : adj.get(i)) {
+                targets[position++] = neighbor;
+            }
         }
-        
-        return result;
+        return new Csr(offsets, targets);
     }
     
     /**
-     * Recursive utility function for topological sort
-     * @param v current vertex
-     * @param visited array to track visited vertices
-     * @param recStack array to track vertices in current recursion
-     * @param stack stack to store the result
-     * @return true if a cycle is detected, false otherwise
+     * Performs topological sort using Depth-First Search.
+     * The DFS is iterative, with an explicit stack and a per-vertex edge cursor, so it works
+     * on arbitrarily deep graphs. The order is the same as the recursive version's: the
+     * reverse postorder, starting from vertices 0, 1, ... and visiting neighbors in insertion order.
+     * @return array containing the topologically sorted vertices, or null if graph has a cycle
      */
-    private boolean topologicalSortUtil(int v, boolean[] visited, boolean[] recStack, Stack<Integer> stack) {
-        // Mark the current vertex as visited and add to recursion stack
-        visited[v] = true;
-        recStack[v] = true;
-        
-        // Process all adjacent vertices
-        for (Integer neighbor : adj.get(v)) {
-            // If not visited, recursively process
-            if (!visited[neighbor]) {
-                if (topologicalSortUtil(neighbor, visited, recStack, stack)) {
-                    return true; // Cycle detected
+    public int[] topologicalSort() {
+        Csr csr = toCsr();
+        
+        // 0 = unvisited, 1 = on the DFS stack, 2 = finished
+        byte[] state = new byte[V];
+        // Next edge to explore for each vertex on the stack
+        int[] cursor = new int[V];
+        int[] stack = new int[V];
+        int top = 0;
+        
+        // Vertices are written from the back as they finish, giving the reverse postorder
+        int[] result = new int[V];
+        int index = V;
+        
+        for (int i = 0; i < V; i++) {
+            if (state[i] != 0) {
+                continue;
+            }
+            state[i] = 1;
+            cursor[i] = csr.offsets[i];
+            stack[top++] = i;
+            
+            while (top > 0) {
+                int v = stack[top - 1];
+                if (cursor[v] < csr.offsets[v + 1]) {
+                    int neighbor = csr.targets[cursor[v]++];
+                    if (state[neighbor] == 0) {
+                        // Descend into the neighbor
+                        state[neighbor] = 1;
+                        cursor[neighbor] = csr.offsets[neighbor];
+                        stack[top++] = neighbor;
+                    } else if (state[neighbor] == 1) {
+                        // Neighbor is on the current path, so we found a cycle
+                        return null;
+                    }
+                } else {
+                    // All dependencies are done, so v finishes
+                    top--;
+                    state[v] = 2;
+                    result[--index] = v;
                 }
-            } 
-            // If already in recursion stack, we found a cycle
-            else if (recStack[neighbor]) {
-                return true;
             }
         }
         
-        // Remove vertex from recursion stack
-        recStack[v] = false;
-        
-        // Add current vertex to stack (only after all dependencies are added)
-        stack.push(v);
-        
-        return false;
+        return result;
     }
     
     /**
@@ -164,6 +349,179 @@ public class TopologicalSort {
         return result;
     }
     
+    /**
+     * Finds the strongly connected components with an iterative version of Tarjan's algorithm
+     * and builds the condensation DAG, in O(V + E). Unlike topologicalSort(), this works on
+     * graphs with cycles: each cycle collapses into one component, and the components can be
+     * scheduled in the returned topological order.
+     * @return the components and their condensation DAG
+     */
+    public StronglyConnectedComponents stronglyConnectedComponents() {
+        Csr csr = toCsr();
+        
+        int[] index = new int[V];   // DFS discovery index, -1 if unvisited
+        int[] low = new int[V];     // smallest index reachable within the DFS subtree
+        int[] cursor = new int[V];
+        int[] callStack = new int[V];
+        int[] sccStack = new int[V];
+        boolean[] onStack = new boolean[V];
+        int[] finished = new int[V]; // component in completion order (sinks first)
+        Arrays.fill(index, -1);
+        int counter = 0;
+        int callTop = 0;
+        int sccTop = 0;
+        int numComponents = 0;
+        
+        for (int root = 0; root < V; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            index[root] = low[root] = counter++;
+            cursor[root] = csr.offsets[root];
+            sccStack[sccTop++] = root;
+            onStack[root] = true;
+            callStack[callTop++] = root;
+            
+            while (callTop > 0) {
+                int v = callStack[callTop - 1];
+                if (cursor[v] < csr.offsets[v + 1]) {
+                    int w = csr.targets[cursor[v]++];
+                    if (index[w] == -1) {
+                        // Descend into w
+                        index[w] = low[w] = counter++;
+                        cursor[w] = csr.offsets[w];
+                        sccStack[sccTop++] = w;
+                        onStack[w] = true;
+                        callStack[callTop++] = w;
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                } else {
+                    // v is done: pass its low link up, and pop a component if v is its root
+                    callTop--;
+                    if (callTop > 0) {
+                        int parent = callStack[callTop - 1];
+                        low[parent] = Math.min(low[parent], low[v]);
+                    }
+                    if (low[v] == index[v]) {
+                        int w;
+                        do {
+                            w = sccStack[--sccTop];
+                            onStack[w] = false;
+                            finished[w] = numComponents;
+                        } while (w != v);
+                        numComponents++;
+                    }
+                }
+            }
+        }
+        
+        // Tarjan completes components in reverse topological order, so flip the numbering
+        int[] componentOf = new int[V];
+        int[] componentSizes = new int[numComponents];
+        for (int v = 0; v < V; v++) {
+            componentOf[v] = numComponents - 1 - finished[v];
+            componentSizes[componentOf[v]]++;
+        }
+        
+        // Group vertices by component (counting sort)
+        int[] memberStart = new int[numComponents + 1];
+        for (int c = 0; c < numComponents; c++) {
+            memberStart[c + 1] = memberStart[c] + componentSizes[c];
+        }
+        int[] members = new int[V];
+        int[] fill = Arrays.copyOf(memberStart, numComponents);
+        for (int v = 0; v < V; v++) {
+            members[fill[componentOf[v]]++] = v;
+        }
+        
+        // Condensation edges, component by component, without duplicates
+        int[] offsets = new int[numComponents + 1];
+        int[] targets = new int[csr.targets.length];
+        int[] lastSource = new int[numComponents];
+        Arrays.fill(lastSource, -1);
+        boolean[] selfLoop = new boolean[numComponents];
+        int edgeCount = 0;
+        for (int c = 0; c < numComponents; c++) {
+            for (int i = memberStart[c]; i < memberStart[c + 1]; i++) {
+                int v = members[i];
+                for (int e = csr.offsets[v]; e < csr.offsets[v + 1]; e++) {
+                    int target = componentOf[csr.targets[e]];
+                    if (target == c) {
+                        selfLoop[c] |= csr.targets[e] == v;
+                    } else if (lastSource[target] != c) {
+                        lastSource[target] = c;
+                        targets[edgeCount++] = target;
+                    }
+                }
+            }
+            offsets[c + 1] = edgeCount;
+        }
+        
+        return new StronglyConnectedComponents(componentOf, componentSizes, selfLoop, offsets,
+                Arrays.copyOf(targets, edgeCount));
+    }
+    
+    /**
+     * Splits the graph into levels with a level-synchronous Kahn's algorithm, using the common pool
+     * @return the levels, or null if graph has a cycle
+     * @see #topologicalLevels(ForkJoinPool)
+     */
+    public int[][] topologicalLevels() {
+        return topologicalLevels(ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Splits the graph into levels (wavefronts) with a level-synchronous Kahn's algorithm.
+     * Level 0 holds the vertices without incoming edges, and level i + 1 the vertices whose
+     * last incoming edge comes from level i, so all vertices of one level can run in parallel
+     * once the previous levels are done. Each frontier is processed concurrently, lowering the
+     * in-degrees with atomic decrements; the vertex whose counter reaches zero joins the next level.
+     * Which parent releases a vertex is a race, so every level is sorted by vertex to keep the
+     * result deterministic.
+     * @param pool the pool to process large frontiers on
+     * @return the levels, or null if graph has a cycle
+     */
+    public int[][] topologicalLevels(ForkJoinPool pool) {
+        Csr csr = toCsr();
+        
+        // Calculate indegree for each vertex
+        int[] counts = new int[V];
+        for (int target : csr.targets) {
+            counts[target]++;
+        }
+        AtomicIntegerArray indegree = new AtomicIntegerArray(counts);
+        
+        int[] frontier = IntStream.range(0, V).filter(v -> counts[v] == 0).toArray();
+        List<int[]> levels = new ArrayList<>();
+        int count = 0;
+        
+        while (frontier.length > 0) {
+            levels.add(frontier);
+            count += frontier.length;
+            
+            // Release the neighbors whose last dependency is in this level
+            IntStream vertices = IntStream.of(frontier);
+            if (frontier.length >= PARALLEL_THRESHOLD) {
+                vertices = vertices.parallel();
+            }
+            IntStream next = vertices.flatMap(v -> IntStream.range(csr.offsets[v], csr.offsets[v + 1])
+                    .map(e -> csr.targets[e])
+                    .filter(neighbor -> indegree.decrementAndGet(neighbor) == 0));
+            frontier = frontier.length >= PARALLEL_THRESHOLD
+                    ? pool.submit(() -> next.toArray()).join()
+                    : next.toArray();
+            Arrays.sort(frontier);
+        }
+        
+        // Check if there was a cycle
+        if (count != V) {
+            return null;
+        }
+        
+        return levels.toArray(new int[0][]);
+    }
+    
     /**
      * Utility method to print the topological sort
      * @param order the topologically sorted order of vertices
@@ -209,6 +567,8 @@ public class TopologicalSort {
         int[] order1Kahn = g1.topologicalSortKahn();
         printOrder(order1Kahn);
         
+        System.out.println("Example 1 (levels): " + Arrays.deepToString(g1.topologicalLevels()));
+        
         // Example 2: Graph with a cycle
         /*
          * Graph with cycle:
@@ -230,6 +590,30 @@ public class TopologicalSort {
         int[] order2Kahn = g2.topologicalSortKahn();
         printOrder(order2Kahn);
         
+        // Cycles collapse into components that can still be scheduled
+        /*
+         * Graph:
+         *   0 → 1 → 2 → 3 ⇄ 4 → 5
+         *   ↑_______↓
+         */
+        TopologicalSort g3 = new TopologicalSort(6);
+        g3.addEdge(0, 1);
+        g3.addEdge(1, 2);
+        g3.addEdge(2, 0);
+        g3.addEdge(2, 3);
+        g3.addEdge(3, 4);
+        g3.addEdge(4, 3);
+        g3.addEdge(4, 5);
+        
+        StronglyConnectedComponents scc = g3.stronglyConnectedComponents();
+        System.out.println("\nCyclic graph (components in topological order): "
+                + Arrays.deepToString(scc.getMembers()));
+        for (int c = 0; c < scc.getNumComponents(); c++) {
+            for (int e = scc.edgeStart(c); e < scc.edgeEnd(c); e++) {
+                System.out.println("Component " + c + " -> component " + scc.target(e));
+            }
+        }
+        
         // Example 3: Course Schedule Problem
         /*
          * Courses: 0, 1, 2, 3, 4
@@ -251,5 +635,60 @@ public class TopologicalSort {
         int[] courseOrder = courseSchedule.topologicalSort();
         System.out.print("Order to take courses: ");
         printOrder(courseOrder);
+        
+        // Example 4: Long dependency chain, deeper than the call stack allows for recursion
+        int n = 1_000_000;
+        TopologicalSort chain = new TopologicalSort(n);
+        for (int i = 0; i + 1 < n; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        long startTime = System.currentTimeMillis();
+        int[] chainOrder = chain.topologicalSort();
+        long endTime = System.currentTimeMillis();
+        System.out.println("\nChain of " + n + " vertices sorted in " + (endTime - startTime) + "ms, starts with "
+                + chainOrder[0] + " and ends with " + chainOrder[n - 1]);
+        
+        // Example 5: Large random DAG split into levels
+        TopologicalSort dag = new TopologicalSort(n);
+        Random random = new Random(4);
+        for (int i = 0; i < 5_000_000; i++) {
+            int u = random.nextInt(n);
+            int v = random.nextInt(n);
+            if (u != v) {
+                dag.addEdge(Math.min(u, v), Math.max(u, v));
+            }
+        }
+        
+        startTime = System.currentTimeMillis();
+        dag.topologicalSortKahn();
+        endTime = System.currentTimeMillis();
+        System.out.println("\nSequential Kahn on " + n + " vertices took " + (endTime - startTime) + "ms");
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1; threads <= cores; threads *= 2) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            startTime = System.currentTimeMillis();
+            int[][] levels = dag.topologicalLevels(pool);
+            endTime = System.currentTimeMillis();
+            System.out.println("Level-synchronous Kahn with " + threads + " threads took " + (endTime - startTime)
+                    + "ms, " + levels.length + " levels");
+            pool.shutdown();
+        }
+        
+        // Example 6: Large random graph with cycles
+        TopologicalSort cyclic = new TopologicalSort(n);
+        for (int i = 0; i < 2_000_000; i++) {
+            cyclic.addEdge(random.nextInt(n), random.nextInt(n));
+        }
+        startTime = System.currentTimeMillis();
+        StronglyConnectedComponents large = cyclic.stronglyConnectedComponents();
+        endTime = System.currentTimeMillis();
+        int largest = 0;
+        for (int c = 0; c < large.getNumComponents(); c++) {
+            largest = Math.max(largest, large.getComponentSize(c));
+        }
+        System.out.println("\nComponents of a random graph with cycles found in " + (endTime - startTime) + "ms: "
+                + large.getNumComponents() + " components, largest has " + largest + " vertices, "
+                + large.getNumCondensationEdges() + " condensation edges");
     }
 }
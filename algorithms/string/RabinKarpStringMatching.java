@@ -1,5 +1,9 @@
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Implementation of Rabin-Karp string matching algorithm.
@@ -13,6 +17,9 @@ import java.util.List;
  * 
  * Space Complexity: O(1) for basic implementation
  * 
+ * Multiple patterns are matched with an Aho-Corasick automaton instead, which scans the text
+ * once for all patterns: O(n + total pattern length + number of matches).
+ * 
  * Common Interview Uses:
  * - String matching and substring search
  * - Plagiarism detection
@@ -90,26 +97,243 @@ public class RabinKarpStringMatching {
     }
     
     /**
-     * Implementation optimized for multiple pattern search
+     * Implementation optimized for multiple pattern search: all patterns are found in a
+     * single pass over the text with an Aho-Corasick automaton
      * @param text the text to search in
      * @param patterns array of patterns to search for
-     * @return map of patterns to their occurrences
+     * @return matches of the patterns that occur, in the order of the patterns array
      */
     public static List<PatternMatch> searchMultiplePatterns(String text, String[] patterns) {
-        List<PatternMatch> allMatches = new ArrayList<>();
-        
         if (text == null || patterns == null || patterns.length == 0) {
-            return allMatches;
+            return new ArrayList<>();
         }
         
-        for (String pattern : patterns) {
-            List<Integer> occurrences = search(text, pattern);
-            if (!occurrences.isEmpty()) {
-                allMatches.add(new PatternMatch(pattern, occurrences));
+        return new AhoCorasick(patterns).search(text);
+    }
+    
+    /**
+     * Aho-Corasick automaton: a trie of all patterns plus failure links, where the failure link
+     * of a node points to the node of its longest proper suffix that is also in the trie.
+     * Scanning a character follows one transition, and every pattern ending at the current
+     * position is reached through the chain of "output" links (failure links restricted to
+     * nodes where a pattern ends).
+     * 
+     * Transitions on ASCII characters are precomputed into a dense table, so the scan does a
+     * single array lookup per character. To keep the table small, its columns are only the
+     * ASCII characters that occur in some pattern; every other character leads to the root.
+     * Characters outside ASCII use a hash map of trie edges and walk the failure links.
+     * 
+     * Compile once and reuse it to scan many texts against the same patterns.
+     */
+    public static class AhoCorasick {
+        private final String[] patterns;
+        private final int[] charClass = new int[128]; // column of each ASCII character, 0 = not in any pattern
+        private final int width;                      // number of table columns
+        
+        private int[] table;        // table[state * width + column] = next state
+        private int[] fail;
+        private int[] outputLink;   // nearest state on the failure chain where a pattern ends, or -1
+        private int[] firstPattern; // first pattern ending at each state, or -1
+        private final int[] nextPattern; // next pattern ending at the same state, or -1
+        private int numStates;
+        
+        // Edges on non-ASCII characters, keyed by (state, character)
+        private final Map<Long, Integer> wideEdges = new HashMap<>();
+        private int[] wideHead = new int[16];  // first wide edge of each state, or -1
+        private int[] wideNext = new int[16];
+        private int[] wideTarget = new int[16];
+        private char[] wideChar = new char[16];
+        private int numWideEdges;
+        
+        /**
+         * Compiles the patterns. Null patterns never match; empty patterns match like search(text, "").
+         * @param patterns the patterns to search for
+         */
+        public AhoCorasick(String[] patterns) {
+            this.patterns = patterns.clone();
+            this.nextPattern = new int[patterns.length];
+            
+            int columns = 1;
+            for (String pattern : patterns) {
+                if (pattern == null) {
+                    continue;
+                }
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    if (c < 128 && charClass[c] == 0) {
+                        charClass[c] = columns++;
+                    }
+                }
+            }
+            width = columns;
+            
+            int capacity = 16;
+            table = new int[capacity * width];
+            fail = new int[capacity];
+            outputLink = new int[capacity];
+            firstPattern = new int[capacity];
+            newState();
+            
+            // Build the trie
+            for (int id = 0; id < patterns.length; id++) {
+                String pattern = patterns[id];
+                if (pattern == null || pattern.isEmpty()) {
+                    continue;
+                }
+                int state = 0;
+                for (int i = 0; i < pattern.length(); i++) {
+                    char c = pattern.charAt(i);
+                    int next = child(state, c);
+                    if (next == 0) {
+                        next = newState();
+                        addChild(state, c, next);
+                    }
+                    state = next;
+                }
+                nextPattern[id] = firstPattern[state];
+                firstPattern[state] = id;
+            }
+            
+            buildFailureLinks();
+        }
+        
+        private int newState() {
+            if (numStates == fail.length) {
+                int capacity = numStates * 2;
+                table = Arrays.copyOf(table, capacity * width);
+                fail = Arrays.copyOf(fail, capacity);
+                outputLink = Arrays.copyOf(outputLink, capacity);
+                firstPattern = Arrays.copyOf(firstPattern, capacity);
+                wideHead = Arrays.copyOf(wideHead, capacity);
+            }
+            firstPattern[numStates] = -1;
+            outputLink[numStates] = -1;
+            wideHead[numStates] = -1;
+            return numStates++;
+        }
+        
+        // Trie child of a state, or 0 (the root is nobody's child)
+        private int child(int state, char c) {
+            if (c < 128) {
+                return table[state * width + charClass[c]];
+            }
+            return wideEdges.getOrDefault(wideKey(state, c), 0);
+        }
+        
+        private void addChild(int state, char c, int next) {
+            if (c < 128) {
+                table[state * width + charClass[c]] = next;
+                return;
+            }
+            wideEdges.put(wideKey(state, c), next);
+            if (numWideEdges == wideNext.length) {
+                int capacity = numWideEdges * 2;
+                wideNext = Arrays.copyOf(wideNext, capacity);
+                wideTarget = Arrays.copyOf(wideTarget, capacity);
+                wideChar = Arrays.copyOf(wideChar, capacity);
+            }
+            wideChar[numWideEdges] = c;
+            wideTarget[numWideEdges] = next;
+            wideNext[numWideEdges] = wideHead[state];
+            wideHead[state] = numWideEdges++;
+        }
+        
+        private static long wideKey(int state, char c) {
+            return ((long) state << 16) | c;
+        }
+        
+        // Transition on a non-ASCII character, following failure links
+        private int wideTransition(int state, char c) {
+            while (true) {
+                Integer next = wideEdges.get(wideKey(state, c));
+                if (next != null) {
+                    return next;
+                }
+                if (state == 0) {
+                    return 0;
+                }
+                state = fail[state];
+            }
+        }
+        
+        /**
+         * Sets failure and output links in BFS order, and completes the ASCII table so that a
+         * missing transition points where the failure links would lead.
+         */
+        private void buildFailureLinks() {
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            queue.add(0);
+            while (!queue.isEmpty()) {
+                int state = queue.poll();
+                int row = state * width;
+                int failRow = fail[state] * width;
+                
+                for (int column = 1; column < width; column++) {
+                    int next = table[row + column];
+                    if (next == 0) {
+                        // Missing transition: borrow the failure state's (the root's are all 0)
+                        table[row + column] = state == 0 ? 0 : table[failRow + column];
+                    } else {
+                        setFailure(next, state == 0 ? 0 : table[failRow + column]);
+                        queue.add(next);
+                    }
+                }
+                for (int e = wideHead[state]; e != -1; e = wideNext[e]) {
+                    int next = wideTarget[e];
+                    setFailure(next, state == 0 ? 0 : wideTransition(fail[state], wideChar[e]));
+                    queue.add(next);
+                }
             }
         }
         
-        return allMatches;
+        private void setFailure(int state, int target) {
+            fail[state] = target;
+            outputLink[state] = firstPattern[target] != -1 ? target : outputLink[target];
+        }
+        
+        /**
+         * Finds all patterns in a text in one pass.
+         * @param text the text to search in
+         * @return matches of the patterns that occur, in the order of the patterns array,
+         *         each with its positions in increasing order
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public List<PatternMatch> search(String text) {
+            List<PatternMatch> allMatches = new ArrayList<>();
+            if (text == null) {
+                return allMatches;
+            }
+            
+            List<Integer>[] positions = new List[patterns.length];
+            int state = 0;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                state = c < 128 ? table[state * width + charClass[c]] : wideTransition(state, c);
+                
+                // Report every pattern ending here: at this state and along its output links
+                int out = firstPattern[state] != -1 ? state : outputLink[state];
+                for (; out != -1; out = outputLink[out]) {
+                    for (int id = firstPattern[out]; id != -1; id = nextPattern[id]) {
+                        if (positions[id] == null) {
+                            positions[id] = new ArrayList<>();
+                        }
+                        positions[id].add(i - patterns[id].length() + 1);
+                    }
+                }
+            }
+            
+            for (int id = 0; id < patterns.length; id++) {
+                if (patterns[id] != null && patterns[id].isEmpty()) {
+                    // Keep the single-pattern search's behavior for empty patterns
+                    positions[id] = RabinKarpStringMatching.search(text, patterns[id]);
+                }
+                if (positions[id] != null && !positions[id].isEmpty()) {
+                    allMatches.add(new PatternMatch(patterns[id], positions[id]));
+                }
+            }
+            
+            return allMatches;
+        }
     }
     
     /**
@@ -175,6 +399,32 @@ public class RabinKarpStringMatching {
         
         System.out.println("Naive search found " + naiveMatches.size() + 
                            " matches in " + (endTime - startTime) + "ms");
+        
+        // Many keywords: one Rabin-Karp pass per pattern versus a single Aho-Corasick pass
+        String logText = generateRandomString(100000);
+        String[] keywords = new String[10000];
+        for (int i = 0; i < keywords.length; i++) {
+            keywords[i] = generateRandomString(3 + i % 4);
+        }
+        
+        startTime = System.currentTimeMillis();
+        List<PatternMatch> onePassPerPattern = new ArrayList<>();
+        for (String keyword : keywords) {
+            List<Integer> occurrences = search(logText, keyword);
+            if (!occurrences.isEmpty()) {
+                onePassPerPattern.add(new PatternMatch(keyword, occurrences));
+            }
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println("\nRabin-Karp per pattern: " + onePassPerPattern.size() + " of " + keywords.length
+                + " keywords found in " + (endTime - startTime) + "ms");
+        
+        startTime = System.currentTimeMillis();
+        List<PatternMatch> singlePass = searchMultiplePatterns(logText, keywords);
+        endTime = System.currentTimeMillis();
+        System.out.println("Aho-Corasick: " + singlePass.size() + " of " + keywords.length
+                + " keywords found in " + (endTime - startTime) + "ms");
+        System.out.println("Same results: " + onePassPerPattern.toString().equals(singlePass.toString()));
     }
     
     /**